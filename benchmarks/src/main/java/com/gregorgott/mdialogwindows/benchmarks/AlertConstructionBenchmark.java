@@ -0,0 +1,73 @@
+package com.gregorgott.mdialogwindows.benchmarks;
+
+import com.gregorgott.mdialogwindows.MDialogWindow;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the construction time of every alert type and the size of its scene graph. Run with {@code -prof gc} to
+ * get the allocation per alert ({@code gc.alloc.rate.norm}).
+ *
+ * <p> The alerts are created on the JavaFX Application Thread, so every operation contains one
+ * {@code Platform.runLater()} round trip. {@link RoundTripBenchmark} measures this overhead.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.GLASS_PLATFORM, FxPlatform.MONOCLE_PLATFORM, FxPlatform.PRISM_ORDER})
+@State(Scope.Benchmark)
+public class AlertConstructionBenchmark {
+    @Param
+    public AlertType alertType;
+
+    @Setup(Level.Trial)
+    public void startPlatform() {
+        FxPlatform.start();
+    }
+
+    @Benchmark
+    public MDialogWindow construct() {
+        return FxPlatform.call(alertType::create);
+    }
+
+    /**
+     * Counts the nodes of every created alert. The nodes per alert are {@code nodes / alerts}.
+     */
+    @Benchmark
+    public void constructAndCountNodes(SceneGraphCounters counters) {
+        counters.nodes += FxPlatform.call(() -> FxPlatform.countNodes(alertType.create().getStage().getScene()
+                .getRoot()));
+        counters.alerts++;
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class SceneGraphCounters {
+        public long nodes;
+        public long alerts;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            nodes = 0;
+            alerts = 0;
+        }
+    }
+}
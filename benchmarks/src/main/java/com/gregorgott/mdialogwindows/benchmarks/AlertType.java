@@ -0,0 +1,88 @@
+package com.gregorgott.mdialogwindows.benchmarks;
+
+import com.gregorgott.mdialogwindows.MAlert;
+import com.gregorgott.mdialogwindows.MDialogWindow;
+import com.gregorgott.mdialogwindows.MImageAlert;
+import com.gregorgott.mdialogwindows.MMultiInformationAlert;
+import com.gregorgott.mdialogwindows.MScrollPaneAlert;
+import com.gregorgott.mdialogwindows.MTextFieldAlert;
+import com.gregorgott.mdialogwindows.MWelcomeAlert;
+import com.gregorgott.mdialogwindows.web.MWebAlert;
+import javafx.scene.image.WritableImage;
+
+import java.util.function.Supplier;
+
+/**
+ * The alert types covered by the benchmarks. Every type creates an alert with typical content.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public enum AlertType {
+    DIALOG_WINDOW(() -> {
+        MDialogWindow alert = new MDialogWindow(300, 200, "Benchmark", null);
+        alert.addButton("OK", null, true);
+        return alert;
+    }),
+    ALERT(() -> {
+        MAlert alert = new MAlert(MAlert.MAlertType.ERROR, "Benchmark");
+        alert.setHeadline("Error while creating a new file.");
+        alert.setSecondHeadline("Check if you run this application as superuser and try it again.");
+        alert.setInfoText("Error (23) - Contact our customer support if you need further help.");
+        alert.addButton("Cancel", null, false);
+        alert.addButton("Try again", null, true);
+        return alert;
+    }),
+    TEXT_FIELD_ALERT(() -> {
+        MTextFieldAlert alert = new MTextFieldAlert("Benchmark");
+        alert.setHeadline("New document");
+        alert.setInfoText("Name:");
+        alert.addButton("Create", null, true);
+        return alert;
+    }),
+    SCROLL_PANE_ALERT(() -> {
+        MScrollPaneAlert alert = new MScrollPaneAlert("Benchmark");
+        alert.setHeadline("License");
+        alert.addButton("OK", null, true);
+        return alert;
+    }),
+    WELCOME_ALERT(() -> {
+        MWelcomeAlert alert = new MWelcomeAlert("Benchmark");
+        alert.setHeadline("What's New?");
+        for (int i = 0; i < 10; i++) alert.addWidget(null, "Feature " + i, "Description of feature " + i);
+        alert.addButton("Continue", null, true);
+        return alert;
+    }),
+    MULTI_INFORMATION_ALERT(() -> {
+        MMultiInformationAlert alert = new MMultiInformationAlert("Benchmark");
+        alert.setHeadline("About");
+        for (int i = 0; i < 10; i++) alert.addWidget("Section " + i, "Content of section " + i);
+        alert.addButton("OK", null, true);
+        return alert;
+    }),
+    IMAGE_ALERT(() -> {
+        MImageAlert alert = new MImageAlert(new WritableImage(400, 300), "Benchmark");
+        alert.addButton("Cancel", null, false);
+        alert.addButton("Share", null, true);
+        return alert;
+    }),
+    WEB_ALERT(() -> {
+        MWebAlert alert = MWebAlert.ofContent("<h1>Benchmark</h1>", "Benchmark", null);
+        alert.addButton("OK", null, true);
+        return alert;
+    });
+
+    private final Supplier<MDialogWindow> factory;
+
+    AlertType(Supplier<MDialogWindow> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates the alert. Must be called on the JavaFX Application Thread.
+     */
+    MDialogWindow create() {
+        return factory.get();
+    }
+}
@@ -0,0 +1,67 @@
+package com.gregorgott.mdialogwindows.benchmarks;
+
+import com.gregorgott.mdialogwindows.MDialogWindow;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from the creation of an alert until its first pulse after {@code show()}. The first pulse is
+ * detected with a post layout pulse listener, which is called right before the scene is rendered.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.GLASS_PLATFORM, FxPlatform.MONOCLE_PLATFORM, FxPlatform.PRISM_ORDER})
+@State(Scope.Benchmark)
+public class FirstPulseBenchmark {
+    @Param
+    public AlertType alertType;
+
+    @Setup(Level.Trial)
+    public void startPlatform() {
+        FxPlatform.start();
+    }
+
+    @Benchmark
+    public void showUntilFirstPulse() throws InterruptedException {
+        CountDownLatch firstPulse = new CountDownLatch(1);
+
+        FxPlatform.run(() -> {
+            MDialogWindow alert = alertType.create();
+            Scene scene = alert.getStage().getScene();
+            scene.addPostLayoutPulseListener(new Runnable() {
+                @Override
+                public void run() {
+                    firstPulse.countDown();
+                    // the listeners must not be changed while they are called
+                    Platform.runLater(() -> {
+                        scene.removePostLayoutPulseListener(this);
+                        alert.closeAlert();
+                    });
+                }
+            });
+            alert.show();
+        });
+        firstPulse.await();
+    }
+}
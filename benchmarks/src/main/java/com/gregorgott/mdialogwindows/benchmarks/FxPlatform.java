@@ -0,0 +1,84 @@
+package com.gregorgott.mdialogwindows.benchmarks;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Starts the JavaFX platform once per benchmark JVM and runs benchmark code on the JavaFX Application Thread. The JVM
+ * arguments below select the headless Monocle platform and the software renderer and are added to every fork.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+final class FxPlatform {
+    static final String GLASS_PLATFORM = "-Dglass.platform=Monocle";
+    static final String MONOCLE_PLATFORM = "-Dmonocle.platform=Headless";
+    static final String PRISM_ORDER = "-Dprism.order=sw";
+
+    private static boolean started;
+
+    private FxPlatform() {
+    }
+
+    /**
+     * Starts the JavaFX platform if it is not started yet.
+     */
+    static synchronized void start() {
+        if (started) return;
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.startup(latch::countDown);
+        Platform.setImplicitExit(false);
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        started = true;
+    }
+
+    /**
+     * Runs the task on the JavaFX Application Thread and waits for its result.
+     */
+    static <T> T call(Callable<T> task) {
+        FutureTask<T> futureTask = new FutureTask<>(task);
+        Platform.runLater(futureTask);
+        try {
+            return futureTask.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Runs the task on the JavaFX Application Thread and waits until it is done.
+     */
+    static void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * @return The number of nodes in the scene graph below and including {@code node}.
+     */
+    static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) count += countNodes(child);
+        }
+        return count;
+    }
+}
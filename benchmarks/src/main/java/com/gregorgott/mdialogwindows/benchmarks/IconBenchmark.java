@@ -0,0 +1,61 @@
+package com.gregorgott.mdialogwindows.benchmarks;
+
+import com.gregorgott.mdialogwindows.MAlert;
+import com.gregorgott.mdialogwindows.MAlertIcons;
+import javafx.scene.image.Image;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cached alert icons of {@link MAlertIcons} with decoding the icon for every alert.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.GLASS_PLATFORM, FxPlatform.MONOCLE_PLATFORM, FxPlatform.PRISM_ORDER})
+@State(Scope.Benchmark)
+public class IconBenchmark {
+    @Param({"INFORMATION", "ERROR", "CONFIRMATION"})
+    public MAlert.MAlertType mAlertType;
+
+    private String resourceName;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        FxPlatform.start();
+        resourceName = switch (mAlertType) {
+            case INFORMATION -> "images/information-image.png";
+            case ERROR -> "images/warning-image.png";
+            case CONFIRMATION -> "images/question-mark-image.png";
+            case NONE -> throw new IllegalArgumentException();
+        };
+    }
+
+    @Benchmark
+    public Image cachedIcon() {
+        return MAlertIcons.get(mAlertType);
+    }
+
+    @Benchmark
+    public Image decodedIcon() {
+        return new Image(Objects.requireNonNull(MAlertIcons.class.getResourceAsStream(resourceName)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.gregorgott.mdialogwindows.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures an empty {@code Platform.runLater()} round trip, which is contained in every benchmark that runs on the
+ * JavaFX Application Thread.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.GLASS_PLATFORM, FxPlatform.MONOCLE_PLATFORM, FxPlatform.PRISM_ORDER})
+@State(Scope.Benchmark)
+public class RoundTripBenchmark {
+    @Setup(Level.Trial)
+    public void startPlatform() {
+        FxPlatform.start();
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        return FxPlatform.call(() -> Boolean.TRUE);
+    }
+}
@@ -0,0 +1,84 @@
+package com.gregorgott.mdialogwindows.benchmarks;
+
+import com.gregorgott.mdialogwindows.MAlertThemes;
+import com.gregorgott.mdialogwindows.MDialogWindow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the stylesheet lookup of an alert and the time JavaFX needs to apply the CSS to a new alert scene.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.GLASS_PLATFORM, FxPlatform.MONOCLE_PLATFORM, FxPlatform.PRISM_ORDER})
+@State(Scope.Benchmark)
+public class StylesheetBenchmark {
+    @Param({"LIGHT_ROUNDED", "DARK_CLASSIC"})
+    public MDialogWindow.AlertStyle alertStyle;
+
+    @Param({"ALERT", "WELCOME_ALERT"})
+    public AlertType alertType;
+
+    @Setup(Level.Trial)
+    public void startPlatform() {
+        FxPlatform.start();
+    }
+
+    /**
+     * The stylesheet lookup through the theme registry.
+     */
+    @Benchmark
+    public String themeLookup() {
+        return MAlertThemes.get(alertStyle).getStylesheet();
+    }
+
+    /**
+     * The stylesheet lookup through the classpath, as done for every alert before the theme registry.
+     */
+    @Benchmark
+    public String classpathLookup() {
+        return Objects.requireNonNull(MDialogWindow.class.getResource("stylesheets/stylesheet-"
+                + alertStyle.name().toLowerCase().replace('_', '-') + ".css")).toExternalForm();
+    }
+
+    @Benchmark
+    public void applyCss(FreshAlert freshAlert) {
+        FxPlatform.run(() -> freshAlert.alert.getStage().getScene().getRoot().applyCss());
+    }
+
+    /**
+     * Creates a new alert for every invocation, because the CSS of a scene is only applied once.
+     */
+    @State(Scope.Thread)
+    public static class FreshAlert {
+        private MDialogWindow alert;
+
+        @Setup(Level.Invocation)
+        public void createAlert(StylesheetBenchmark benchmark) {
+            alert = FxPlatform.call(() -> {
+                MDialogWindow newAlert = benchmark.alertType.create();
+                newAlert.setTheme(MAlertThemes.get(benchmark.alertStyle));
+                return newAlert;
+            });
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.gregorgott.mdialogwindows.benchmarks;
+
+import com.gregorgott.mdialogwindows.MWelcomeAlert;
+import javafx.scene.Parent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how {@code MWelcomeAlert.addWidget()} scales with the number of widgets, including CSS and layout of the
+ * alert, in the classic and the virtualized mode.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.GLASS_PLATFORM, FxPlatform.MONOCLE_PLATFORM, FxPlatform.PRISM_ORDER})
+@State(Scope.Benchmark)
+public class WelcomeAlertBenchmark {
+    @Param({"10", "100", "1000"})
+    public int widgets;
+
+    @Param({"false", "true"})
+    public boolean virtualized;
+
+    @Setup(Level.Trial)
+    public void startPlatform() {
+        FxPlatform.start();
+    }
+
+    @Benchmark
+    public MWelcomeAlert addWidgets() {
+        return FxPlatform.call(() -> {
+            MWelcomeAlert alert = new MWelcomeAlert("Benchmark", null, virtualized);
+            for (int i = 0; i < widgets; i++) alert.addWidget(null, "Feature " + i, "Description of feature " + i);
+
+            Parent root = alert.getStage().getScene().getRoot();
+            root.applyCss();
+            root.layout();
+            return alert;
+        });
+    }
+}
@@ -1,14 +1,12 @@
 package com.gregorgott.mdialogwindows;
 
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.stage.Window;
 
-import java.util.Objects;
-
 /**
  * The MAlert is an alert with buttons, title, content text and info text.
- * It also shows a corresponding alert image to the {@code MAlertType} when a <code>MAlertType</code> is given.
+ * It also shows a corresponding alert image to the {@code MAlertType} when a <code>MAlertType</code> is given. The
+ * images are shared by all alerts through {@link MAlertIcons}.
  *
  * <p> You have three layers of information fo the user: title, headline, second headline and information.
  * You can use these layers that way:
@@ -36,6 +34,7 @@ import java.util.Objects;
  * @since 2022-10-16 (YYYY-MM-DD)
  */
 public class MAlert extends MDialogWindow {
+    private final MAlertType mAlertType;
     private final Label infoTextLabel;
 
     /**
@@ -70,15 +69,8 @@ public class MAlert extends MDialogWindow {
     public MAlert(MAlertType mAlertType, String title, Window root) {
         super(350, 190, title, root);
 
-        switch (mAlertType) {
-            case INFORMATION -> setAlertImage(new Image(Objects.requireNonNull(
-                    getClass().getResourceAsStream("images/information-image.png"))));
-            case ERROR -> setAlertImage(new Image(Objects.requireNonNull(
-                    getClass().getResourceAsStream("images/warning-image.png"))));
-            case CONFIRMATION -> setAlertImage(new Image(Objects.requireNonNull(
-                    getClass().getResourceAsStream("images/question-mark-image.png"))));
-            case NONE -> setAlertImage(null);
-        }
+        this.mAlertType = mAlertType;
+        setAlertImage(MAlertIcons.get(mAlertType));
 
         infoTextLabel = new Label();
         infoTextLabel.setWrapText(true);
@@ -86,6 +78,14 @@ public class MAlert extends MDialogWindow {
         setButtonSpacing(10);
     }
 
+    /**
+     * @return The {@code MAlertType} of the alert.
+     * @since 1.2.0
+     */
+    public MAlertType getMAlertType() {
+        return mAlertType;
+    }
+
     /**
      * @return The information text.
      * @since 1.0.0
@@ -104,6 +104,32 @@ public class MAlert extends MDialogWindow {
         infoTextLabel.setText(infoText);
     }
 
+    /**
+     * Measures the height of the {@code infoTextLabel} with the {@link MTextMeasurer}.
+     *
+     * @param width The width of the center.
+     * @return The height of the center.
+     * @since 1.2.0
+     */
+    @Override
+    protected double computeCenterHeight(double width) {
+        if (getBorderPane().getCenter() != infoTextLabel) return super.computeCenterHeight(width);
+        return computeLabelHeight(infoTextLabel, width);
+    }
+
+    /**
+     * Resets the alert and restores the image of the {@code MAlertType}.
+     *
+     * @since 1.2.0
+     */
+    @Override
+    protected void reset() {
+        super.reset();
+        setAlertImage(MAlertIcons.get(mAlertType));
+        infoTextLabel.setText(null);
+        getBorderPane().setCenter(infoTextLabel);
+    }
+
     public enum MAlertType {
         ERROR,
         INFORMATION,
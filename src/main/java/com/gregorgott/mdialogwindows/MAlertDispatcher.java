@@ -0,0 +1,202 @@
+package com.gregorgott.mdialogwindows;
+
+import javafx.animation.PauseTransition;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * The {@code MAlertDispatcher} shows {@link MAlert}s and protects the JavaFX Application Thread against bursts of
+ * identical alerts. Alerts with the same {@code MAlertType}, headline and info text are coalesced: while such an alert
+ * is open, no new alert is created, but the occurrence counter in the title of the open alert is increased.
+ *
+ * <p> Additionally, a rate limit can be set. If more alerts with the same key were opened within the period of the rate
+ * limit, new alerts are dropped:
+ *
+ * <pre>
+ *     MAlertDispatcher dispatcher = new MAlertDispatcher(mainStage);
+ *     dispatcher.setRateLimit(3, Duration.ofMinutes(1)); // max. three windows per minute and key
+ *     dispatcher.show(MAlert.MAlertType.ERROR, "Error", "Connection lost", "Retrying in 5 seconds.");
+ * </pre>
+ *
+ * <p> The dispatcher must only be used on the JavaFX Application Thread.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public class MAlertDispatcher {
+    private final Window root;
+    private final Map<Key, Entry> entries;
+    private final PauseTransition pruneTransition;
+    private Consumer<MAlert> alertConfigurator;
+    private int maxAlertsPerPeriod;
+    private long periodNanos;
+    private long shownCount;
+    private long mergedCount;
+    private long droppedCount;
+
+    /**
+     * Creates a dispatcher without rate limit.
+     *
+     * @param root The owner of the alerts.
+     * @since 1.2.0
+     */
+    public MAlertDispatcher(Window root) {
+        this.root = root;
+        entries = new HashMap<>();
+        alertConfigurator = alert -> alert.addButton("OK", x -> alert.closeAlert(), true);
+        maxAlertsPerPeriod = Integer.MAX_VALUE;
+        pruneTransition = new PauseTransition();
+        pruneTransition.setOnFinished(x -> pruneEntries(System.nanoTime()));
+    }
+
+    /**
+     * Sets the rate limit. At most {@code maxAlerts} alerts with the same key are opened within the {@code period}.
+     *
+     * @param maxAlerts The maximum number of alerts per key and period (1 or +).
+     * @param period    The period of the rate limit.
+     * @since 1.2.0
+     */
+    public void setRateLimit(int maxAlerts, Duration period) {
+        if (maxAlerts < 1) throw new IllegalArgumentException("maxAlerts must be greater than zero: " + maxAlerts);
+
+        maxAlertsPerPeriod = maxAlerts;
+        periodNanos = period.toNanos();
+    }
+
+    /**
+     * Removes the rate limit.
+     *
+     * @since 1.2.0
+     */
+    public void clearRateLimit() {
+        maxAlertsPerPeriod = Integer.MAX_VALUE;
+        periodNanos = 0;
+        pruneTransition.stop();
+        pruneEntries(System.nanoTime());
+    }
+
+    /**
+     * Sets the configurator, which is called for every new alert, e.g. to add buttons. By default, an "OK" button
+     * which closes the alert is added.
+     *
+     * @param alertConfigurator The configurator.
+     * @since 1.2.0
+     */
+    public void setAlertConfigurator(Consumer<MAlert> alertConfigurator) {
+        this.alertConfigurator = Objects.requireNonNull(alertConfigurator);
+    }
+
+    /**
+     * Shows an alert. If an alert with the same type, headline and info text is open, its occurrence counter is
+     * increased instead. If the rate limit is exceeded, the alert is dropped.
+     *
+     * @param mAlertType The {@code MAlertType}.
+     * @param title      The title of the alert.
+     * @param headline   The headline of the alert.
+     * @param infoText   The information text of the alert.
+     * @return The shown or merged alert, or null if the alert was dropped.
+     * @since 1.2.0
+     */
+    public MAlert show(MAlert.MAlertType mAlertType, String title, String headline, String infoText) {
+        Key key = new Key(mAlertType, headline, infoText);
+        long now = System.nanoTime();
+        pruneEntries(now);
+        Entry entry = entries.computeIfAbsent(key, x -> new Entry());
+
+        if (entry.alert != null) {
+            entry.occurrences++;
+            entry.alert.setAlertTitle(title + " (" + entry.occurrences + ")");
+            mergedCount++;
+            return entry.alert;
+        }
+
+        if (entry.shownTimes.size() >= maxAlertsPerPeriod) {
+            droppedCount++;
+            return null;
+        }
+
+        MAlert alert = new MAlert(mAlertType, title, root);
+        alert.setHeadline(headline);
+        alert.setInfoText(infoText);
+        alertConfigurator.accept(alert);
+        alert.getStage().addEventHandler(WindowEvent.WINDOW_HIDDEN, x -> onHidden(key, entry));
+
+        entry.alert = alert;
+        entry.occurrences = 1;
+        entry.shownTimes.addLast(now);
+        shownCount++;
+        alert.show();
+        return alert;
+    }
+
+    /**
+     * @return The number of opened alerts.
+     * @since 1.2.0
+     */
+    public long getShownCount() {
+        return shownCount;
+    }
+
+    /**
+     * @return The number of alerts merged into an open alert.
+     * @since 1.2.0
+     */
+    public long getMergedCount() {
+        return mergedCount;
+    }
+
+    /**
+     * @return The number of alerts dropped because of the rate limit.
+     * @since 1.2.0
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    private void onHidden(Key key, Entry entry) {
+        entry.alert = null;
+        if (periodNanos == 0) {
+            entries.remove(key);
+            return;
+        }
+
+        pruneEntries(System.nanoTime());
+        // the timestamps of the hidden alert expire after the period, then its entry is removed
+        if (entries.containsKey(key)) {
+            pruneTransition.setDuration(javafx.util.Duration.millis(Math.ceil(periodNanos / 1_000_000.0) + 1));
+            pruneTransition.playFromStart();
+        }
+    }
+
+    /**
+     * Removes the expired timestamps and the entries of closed alerts without timestamps, so keys which are not used
+     * anymore, e.g. error texts with timestamps, do not stay in the map.
+     */
+    private void pruneEntries(long now) {
+        for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+            Entry entry = iterator.next();
+            while (!entry.shownTimes.isEmpty() && now - entry.shownTimes.peekFirst() >= periodNanos) {
+                entry.shownTimes.pollFirst();
+            }
+            if (entry.alert == null && entry.shownTimes.isEmpty()) iterator.remove();
+        }
+    }
+
+    private record Key(MAlert.MAlertType mAlertType, String headline, String infoText) {
+    }
+
+    private static class Entry {
+        private final ArrayDeque<Long> shownTimes = new ArrayDeque<>();
+        private MAlert alert;
+        private int occurrences;
+    }
+}
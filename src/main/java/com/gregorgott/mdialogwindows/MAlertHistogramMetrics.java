@@ -0,0 +1,143 @@
+package com.gregorgott.mdialogwindows;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link MAlertMetricsListener} which keeps an in-memory histogram per {@link MAlertLifecycleEvent}. The durations
+ * are counted in power-of-two buckets, so the percentiles are upper bounds with a maximum error of factor two.
+ *
+ * <p> All methods are thread-safe.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public class MAlertHistogramMetrics implements MAlertMetricsListener {
+    private static final int BUCKET_COUNT = 64;
+
+    private final Map<MAlertLifecycleEvent, Histogram> histograms;
+    private final AtomicLongArray buttonPresses;
+
+    /**
+     * Creates empty histograms. Button presses are counted for the first 16 button indices.
+     *
+     * @since 1.2.0
+     */
+    public MAlertHistogramMetrics() {
+        histograms = new EnumMap<>(MAlertLifecycleEvent.class);
+        for (MAlertLifecycleEvent event : MAlertLifecycleEvent.values()) histograms.put(event, new Histogram());
+        buttonPresses = new AtomicLongArray(16);
+    }
+
+    @Override
+    public void onEvent(MDialogWindow alert, MAlertLifecycleEvent event, long durationNanos, int buttonIndex) {
+        histograms.get(event).record(durationNanos);
+        if (buttonIndex >= 0 && buttonIndex < buttonPresses.length()) buttonPresses.incrementAndGet(buttonIndex);
+    }
+
+    /**
+     * @param event The lifecycle event.
+     * @return The number of recorded events.
+     * @since 1.2.0
+     */
+    public long getCount(MAlertLifecycleEvent event) {
+        return histograms.get(event).count.sum();
+    }
+
+    /**
+     * @param event The lifecycle event.
+     * @return The mean duration in nanoseconds or 0 if no event was recorded.
+     * @since 1.2.0
+     */
+    public double getMean(MAlertLifecycleEvent event) {
+        Histogram histogram = histograms.get(event);
+        long count = histogram.count.sum();
+        return count == 0 ? 0 : (double) histogram.totalNanos.sum() / count;
+    }
+
+    /**
+     * @param event The lifecycle event.
+     * @return The maximum duration in nanoseconds or 0 if no event was recorded.
+     * @since 1.2.0
+     */
+    public long getMax(MAlertLifecycleEvent event) {
+        return histograms.get(event).maxNanos.get();
+    }
+
+    /**
+     * Returns the upper bound of the bucket which contains the percentile.
+     *
+     * @param event      The lifecycle event.
+     * @param percentile The percentile between 0 and 1, e.g. 0.99.
+     * @return The duration in nanoseconds or 0 if no event was recorded.
+     * @since 1.2.0
+     */
+    public long getPercentile(MAlertLifecycleEvent event, double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("percentile must be between 0 and 1: " + percentile);
+        }
+
+        Histogram histogram = histograms.get(event);
+        long count = histogram.count.sum();
+        if (count == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += histogram.buckets.get(i);
+            if (seen >= rank) return Math.min(upperBound(i), histogram.maxNanos.get());
+        }
+        return histogram.maxNanos.get();
+    }
+
+    /**
+     * @param buttonIndex The index of the button in {@code getButtons()}.
+     * @return How often the button with this index was pushed.
+     * @since 1.2.0
+     */
+    public long getButtonPressCount(int buttonIndex) {
+        return buttonIndex >= 0 && buttonIndex < buttonPresses.length() ? buttonPresses.get(buttonIndex) : 0;
+    }
+
+    /**
+     * Removes all recorded events.
+     *
+     * @since 1.2.0
+     */
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+        for (int i = 0; i < buttonPresses.length(); i++) buttonPresses.set(i, 0);
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket >= 62 ? Long.MAX_VALUE : (1L << (bucket + 1)) - 1;
+    }
+
+    private static class Histogram {
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void record(long durationNanos) {
+            long nanos = Math.max(0, durationNanos);
+            // bucket i contains the durations with the highest one bit i, bucket 0 also contains 0
+            int bucket = nanos == 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+            buckets.incrementAndGet(bucket);
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        private void reset() {
+            for (int i = 0; i < BUCKET_COUNT; i++) buckets.set(i, 0);
+            count.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.gregorgott.mdialogwindows;
+
+import javafx.scene.image.Image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * {@code MAlertIcons} is a process-wide cache for alert icons. Every icon is decoded only once and the same
+ * {@code Image} instance is shared by all alerts, so JavaFX can also reuse the texture of the icon.
+ *
+ * <p> The icons of the {@link MAlert.MAlertType}s are loaded on the first request or eagerly with {@code preload()}.
+ * Custom icons are registered with a key and can be used in any alert:
+ *
+ * <pre>
+ *     MAlertIcons.preload(); // e.g. in Application.init()
+ *     MAlertIcons.register("disk-full", () -> new Image(...));
+ *     alert.setAlertImage(MAlertIcons.get("disk-full"));
+ * </pre>
+ *
+ * <p> All methods are thread-safe, because an {@code Image} can be created outside the JavaFX Application Thread.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public final class MAlertIcons {
+    private static final Map<Object, Image> images = new ConcurrentHashMap<>();
+    private static final Map<String, Supplier<Image>> loaders = new ConcurrentHashMap<>();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private MAlertIcons() {
+    }
+
+    /**
+     * Returns the icon of a {@code MAlertType}. The icon is decoded on the first call.
+     *
+     * @param mAlertType The {@code MAlertType}.
+     * @return The shared icon or null for {@code MAlertType.NONE}.
+     * @since 1.2.0
+     */
+    public static Image get(MAlert.MAlertType mAlertType) {
+        Objects.requireNonNull(mAlertType);
+        if (mAlertType == MAlert.MAlertType.NONE) return null;
+
+        return lookup(mAlertType, () -> loadResource(getResourceName(mAlertType)));
+    }
+
+    /**
+     * Returns a custom icon registered with {@code register()}. The icon is decoded on the first call.
+     *
+     * @param key The key of the icon.
+     * @return The shared icon or null if no icon is registered with this key.
+     * @since 1.2.0
+     */
+    public static Image get(String key) {
+        Objects.requireNonNull(key);
+        Supplier<Image> loader = loaders.get(key);
+        if (loader == null) return null;
+
+        return lookup(key, loader);
+    }
+
+    /**
+     * Registers a custom icon. The {@code loader} is called once, when the icon is requested the first time. An
+     * already decoded icon with the same key is replaced.
+     *
+     * @param key    The key of the icon.
+     * @param loader Creates the icon.
+     * @since 1.2.0
+     */
+    public static void register(String key, Supplier<Image> loader) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(loader);
+        loaders.put(key, loader);
+        images.remove(key);
+    }
+
+    /**
+     * Registers an already decoded custom icon.
+     *
+     * @param key   The key of the icon.
+     * @param image The icon.
+     * @since 1.2.0
+     */
+    public static void register(String key, Image image) {
+        Objects.requireNonNull(image);
+        register(key, () -> image);
+    }
+
+    /**
+     * Removes a custom icon.
+     *
+     * @param key The key of the icon.
+     * @since 1.2.0
+     */
+    public static void unregister(String key) {
+        loaders.remove(key);
+        images.remove(key);
+    }
+
+    /**
+     * Decodes the icons of all {@code MAlertType}s and registered custom icons, so the first alert does not have to
+     * wait. Can be called from any thread, e.g. in {@code Application.init()}.
+     *
+     * @since 1.2.0
+     */
+    public static void preload() {
+        for (MAlert.MAlertType mAlertType : MAlert.MAlertType.values()) {
+            if (mAlertType != MAlert.MAlertType.NONE) {
+                images.computeIfAbsent(mAlertType, x -> loadResource(getResourceName(mAlertType)));
+            }
+        }
+        loaders.forEach((key, loader) -> images.computeIfAbsent(key, x -> loader.get()));
+    }
+
+    /**
+     * @return How often an already decoded icon was returned.
+     * @since 1.2.0
+     */
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return How often an icon had to be decoded.
+     * @since 1.2.0
+     */
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Resets the hit and miss counters.
+     *
+     * @since 1.2.0
+     */
+    public static void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+
+    private static Image lookup(Object key, Supplier<Image> loader) {
+        Image image = images.get(key);
+        if (image != null) {
+            hits.increment();
+            return image;
+        }
+
+        return images.computeIfAbsent(key, x -> {
+            misses.increment();
+            return loader.get();
+        });
+    }
+
+    private static String getResourceName(MAlert.MAlertType mAlertType) {
+        return switch (mAlertType) {
+            case INFORMATION -> "images/information-image.png";
+            case ERROR -> "images/warning-image.png";
+            case CONFIRMATION -> "images/question-mark-image.png";
+            case NONE -> throw new IllegalArgumentException("MAlertType.NONE has no icon");
+        };
+    }
+
+    private static Image loadResource(String name) {
+        try (InputStream inputStream = Objects.requireNonNull(MAlertIcons.class.getResourceAsStream(name))) {
+            return new Image(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.gregorgott.mdialogwindows;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A {@link MAlertMetricsListener} which commits every lifecycle event as JDK Flight Recorder event
+ * {@code com.gregorgott.mdialogwindows.AlertLifecycle}. If no recording with the enabled event is running, nothing is
+ * created.
+ *
+ * <pre>
+ *     MDialogWindow.setMetricsListener(new MAlertJfrMetrics());
+ *     // java -XX:StartFlightRecording=filename=alerts.jfr ...
+ * </pre>
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public class MAlertJfrMetrics implements MAlertMetricsListener {
+    private static final EventType EVENT_TYPE = EventType.getEventType(AlertLifecycleEvent.class);
+
+    @Override
+    public void onEvent(MDialogWindow alert, MAlertLifecycleEvent event, long durationNanos, int buttonIndex) {
+        // the event type is checked first, so no event is allocated while nothing is recorded
+        if (!EVENT_TYPE.isEnabled()) return;
+
+        AlertLifecycleEvent jfrEvent = new AlertLifecycleEvent();
+
+        jfrEvent.alertClass = alert.getClass().getName();
+        jfrEvent.alertTitle = alert.getAlertTitle();
+        jfrEvent.lifecycleEvent = event.name();
+        jfrEvent.elapsed = durationNanos;
+        jfrEvent.buttonIndex = buttonIndex;
+        jfrEvent.commit();
+    }
+
+    @Name("com.gregorgott.mdialogwindows.AlertLifecycle")
+    @Label("Alert Lifecycle")
+    @Category({"MDialogWindows"})
+    @Description("A lifecycle event of a MDialogWindow")
+    static class AlertLifecycleEvent extends Event {
+        @Label("Alert Class")
+        private String alertClass;
+
+        @Label("Alert Title")
+        private String alertTitle;
+
+        @Label("Lifecycle Event")
+        private String lifecycleEvent;
+
+        @Label("Elapsed Time")
+        @Timespan(Timespan.NANOSECONDS)
+        private long elapsed;
+
+        @Label("Button Index")
+        private int buttonIndex;
+    }
+}
@@ -0,0 +1,93 @@
+package com.gregorgott.mdialogwindows;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+/**
+ * The {@code MAlertLeakTracker} is a debug registry which finds alerts that are still reachable after they were closed.
+ * While the tracker is enabled, every closed or disposed alert is weakly referenced until it is shown again. An alert
+ * which is still reported after a garbage collection is kept alive by the application:
+ *
+ * <pre>
+ *     MAlertLeakTracker.setEnabled(true);
+ *     ...
+ *     System.gc();
+ *     MAlertLeakTracker.getRetainedAlertCounts().forEach((name, count) -> System.out.println(name + ": " + count));
+ * </pre>
+ *
+ * <p> Alerts kept by a {@link MDialogWindowPool} are closed, but reachable on purpose, so they are reported as well.
+ * The tracker is disabled by default and can be used from any thread.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public final class MAlertLeakTracker {
+    private static final Set<MDialogWindow> closedAlerts = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+    private static volatile boolean enabled;
+
+    private MAlertLeakTracker() {
+    }
+
+    /**
+     * @return True if closed alerts are tracked.
+     * @since 1.2.0
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the tracking of closed alerts. Disabling the tracker removes all tracked alerts.
+     *
+     * @param enabled True to track closed alerts.
+     * @since 1.2.0
+     */
+    public static void setEnabled(boolean enabled) {
+        MAlertLeakTracker.enabled = enabled;
+        if (!enabled) closedAlerts.clear();
+    }
+
+    /**
+     * @return The number of closed alerts which were not garbage collected yet.
+     * @since 1.2.0
+     */
+    public static int getRetainedAlertCount() {
+        return closedAlerts.size();
+    }
+
+    /**
+     * Counts the closed alerts, which were not garbage collected yet, per class.
+     *
+     * @return The fully qualified class names and the number of their retained alerts, sorted by the class name.
+     * @since 1.2.0
+     */
+    public static Map<String, Integer> getRetainedAlertCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        synchronized (closedAlerts) {
+            for (MDialogWindow alert : closedAlerts) counts.merge(alert.getClass().getName(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Removes all tracked alerts, e.g. to only find the alerts closed after this call.
+     *
+     * @since 1.2.0
+     */
+    public static void clear() {
+        closedAlerts.clear();
+    }
+
+    static void track(MDialogWindow alert) {
+        if (enabled) closedAlerts.add(alert);
+    }
+
+    static void untrack(MDialogWindow alert) {
+        if (enabled) closedAlerts.remove(alert);
+    }
+}
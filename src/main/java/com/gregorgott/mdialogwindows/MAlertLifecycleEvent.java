@@ -0,0 +1,37 @@
+package com.gregorgott.mdialogwindows;
+
+/**
+ * The lifecycle events of an alert reported to a {@link MAlertMetricsListener}. The documentation of every event
+ * describes which duration is reported.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public enum MAlertLifecycleEvent {
+    /**
+     * The {@code MDialogWindow} constructor finished. Duration: time spent in the {@code MDialogWindow} constructor,
+     * which creates the Stage and Scene.
+     */
+    CONSTRUCTED,
+    /**
+     * The stylesheet was applied before showing the alert. Duration: time to apply the CSS to the scene graph.
+     */
+    STYLESHEET_APPLIED,
+    /**
+     * The first layout pulse of the shown alert happened. Duration: time since {@code show()} was called.
+     */
+    FIRST_LAYOUT,
+    /**
+     * The Stage is shown. Duration: time since {@code show()} was called.
+     */
+    SHOWN,
+    /**
+     * A button was pushed. Duration: time since {@code show()} was called.
+     */
+    BUTTON_PRESSED,
+    /**
+     * The Stage was closed. Duration: time since {@code show()} was called.
+     */
+    CLOSED
+}
@@ -0,0 +1,34 @@
+package com.gregorgott.mdialogwindows;
+
+/**
+ * A {@code MAlertMetricsListener} receives timed lifecycle events of all alerts. It is installed with
+ * {@code MDialogWindow.setMetricsListener()}. Without listener, the alerts do not measure anything.
+ *
+ * <pre>
+ *     MAlertHistogramMetrics metrics = new MAlertHistogramMetrics();
+ *     MDialogWindow.setMetricsListener(metrics);
+ *     ...
+ *     System.out.println(metrics.getPercentile(MAlertLifecycleEvent.FIRST_LAYOUT, 0.99) + " ns");
+ * </pre>
+ *
+ * <p> The listener is called on the JavaFX Application Thread. The {@code CONSTRUCTED} event is reported before the
+ * constructor of the alert class finished, so the listener must not call methods of the alert class.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+@FunctionalInterface
+public interface MAlertMetricsListener {
+    /**
+     * Called for every lifecycle event of an alert.
+     *
+     * @param alert         The alert.
+     * @param event         The lifecycle event.
+     * @param durationNanos The duration of the event in nanoseconds, see {@link MAlertLifecycleEvent}.
+     * @param buttonIndex   The index of the pushed button in {@code getButtons()} for {@code BUTTON_PRESSED},
+     *                      otherwise -1.
+     * @since 1.2.0
+     */
+    void onEvent(MDialogWindow alert, MAlertLifecycleEvent event, long durationNanos, int buttonIndex);
+}
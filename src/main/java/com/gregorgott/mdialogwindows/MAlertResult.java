@@ -0,0 +1,80 @@
+package com.gregorgott.mdialogwindows;
+
+/**
+ * The result of an alert shown with {@code showAndWait()} or {@code showAsync()}. The result is created when the alert
+ * is hidden: if a button closed the alert, it contains the index and text of this button and, for a
+ * {@link MTextFieldAlert}, the entered text.
+ *
+ * <pre>
+ *     MAlertResult result = textFieldAlert.showAndWait();
+ *     if (result.isButton("Rename")) rename(result.text());
+ * </pre>
+ *
+ * @param type        The type of the result.
+ * @param buttonIndex The index of the pressed button or -1.
+ * @param buttonText  The text of the pressed button or null.
+ * @param text        The entered text of an input alert or null.
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public record MAlertResult(Type type, int buttonIndex, String buttonText, String text) {
+    private static final MAlertResult CLOSED = new MAlertResult(Type.CLOSED, -1, null, null);
+    private static final MAlertResult TIMEOUT = new MAlertResult(Type.TIMEOUT, -1, null, null);
+
+    /**
+     * @param buttonIndex The index of the pressed button.
+     * @param buttonText  The text of the pressed button.
+     * @param text        The entered text or null.
+     * @return A result of a pressed button.
+     * @since 1.2.0
+     */
+    public static MAlertResult button(int buttonIndex, String buttonText, String text) {
+        return new MAlertResult(Type.BUTTON, buttonIndex, buttonText, text);
+    }
+
+    /**
+     * @return The result of an alert which was closed without a button.
+     * @since 1.2.0
+     */
+    public static MAlertResult closed() {
+        return CLOSED;
+    }
+
+    /**
+     * @return The result of an alert which was closed after its timeout.
+     * @since 1.2.0
+     */
+    public static MAlertResult timeout() {
+        return TIMEOUT;
+    }
+
+    /**
+     * @param buttonText The button text.
+     * @return True if the alert was closed by a button with this text.
+     * @since 1.2.0
+     */
+    public boolean isButton(String buttonText) {
+        return type == Type.BUTTON && buttonText.equals(this.buttonText);
+    }
+
+    /**
+     * The type of the result.
+     *
+     * @since 1.2.0
+     */
+    public enum Type {
+        /**
+         * A button was pressed, which closed the alert.
+         */
+        BUTTON,
+        /**
+         * The alert was closed without a button, e.g. by the close button of the window.
+         */
+        CLOSED,
+        /**
+         * The alert was closed after its timeout.
+         */
+        TIMEOUT
+    }
+}
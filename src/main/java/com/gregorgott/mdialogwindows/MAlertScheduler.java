@@ -0,0 +1,428 @@
+package com.gregorgott.mdialogwindows;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.event.EventHandler;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The {@code MAlertScheduler} shows alerts one after another instead of stacking them. Only a limited number of alerts
+ * is visible at the same time, the other alerts wait in a queue. The queue is ordered by the priority of the alerts,
+ * which is given by the {@code MAlertType}: errors are shown before confirmations, confirmations before information
+ * and alerts of other classes are shown last. Alerts with the same priority are shown in the order they were submitted.
+ *
+ * <pre>
+ *     MAlertScheduler scheduler = new MAlertScheduler(1, 50);
+ *     scheduler.setBackPressureListener(saturated -> importer.setPaused(saturated));
+ *
+ *     // on any thread
+ *     scheduler.submit(saveErrorSpec, mainStage, "save-error", Duration.ofMinutes(1));
+ * </pre>
+ *
+ * <p> An alert which is submitted with the key of a queued or visible alert is dropped. Queued alerts are dropped when
+ * their timeout ends. If the queue reaches its high-water mark, the back-pressure listener is informed, and if the
+ * queue is full, new alerts are rejected. All methods can be called from any thread, the alerts are created and shown
+ * on the JavaFX Application Thread.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public class MAlertScheduler {
+    private final Object lock = new Object();
+    private final int maxVisible;
+    private final int maxQueued;
+    // ----- guarded by lock ----- //
+    private final PriorityQueue<Entry> queue;
+    private final Set<Object> keys;
+    private int visibleCount;
+    private long sequence;
+    private int highWaterMark;
+    private boolean saturated;
+    private Consumer<Boolean> backPressureListener;
+    private Consumer<MDialogWindow> onExpired;
+    private Consumer<RuntimeException> onShowFailed;
+    private long shownCount;
+    private long duplicateCount;
+    private long expiredCount;
+    private long rejectedCount;
+    // ----- guarded by lock ----- //
+
+    /**
+     * Creates a scheduler. The high-water mark is three quarters of the queue size.
+     *
+     * @param maxVisible The maximum number of visible alerts (1 or +).
+     * @param maxQueued  The maximum number of queued alerts (1 or +).
+     * @since 1.2.0
+     */
+    public MAlertScheduler(int maxVisible, int maxQueued) {
+        if (maxVisible < 1) throw new IllegalArgumentException("maxVisible must be greater than zero: " + maxVisible);
+        if (maxQueued < 1) throw new IllegalArgumentException("maxQueued must be greater than zero: " + maxQueued);
+
+        this.maxVisible = maxVisible;
+        this.maxQueued = maxQueued;
+        queue = new PriorityQueue<>(Comparator.comparingInt(Entry::priority).reversed()
+                .thenComparingLong(Entry::sequence));
+        keys = new HashSet<>();
+        highWaterMark = Math.max(1, maxQueued * 3 / 4);
+    }
+
+    /**
+     * Returns the priority of an alert. A higher priority is shown first.
+     *
+     * @param mAlertType The {@code MAlertType} or null for alerts which are not a {@link MAlert}.
+     * @return The priority.
+     * @since 1.2.0
+     */
+    public static int getPriority(MAlert.MAlertType mAlertType) {
+        if (mAlertType == null) return 0;
+        return switch (mAlertType) {
+            case ERROR -> 4;
+            case CONFIRMATION -> 3;
+            case INFORMATION -> 2;
+            case NONE -> 1;
+        };
+    }
+
+    /**
+     * Submits an alert without timeout. The alert itself is the key, so the same alert is not queued twice.
+     *
+     * @param alert The alert.
+     * @return The result of the submit.
+     * @since 1.2.0
+     */
+    public SubmitResult submit(MDialogWindow alert) {
+        return submit(alert, alert, null);
+    }
+
+    /**
+     * Submits an alert.
+     *
+     * @param alert   The alert.
+     * @param key     The key to find duplicates, e.g. a string or record, or null.
+     * @param timeout The maximum time in the queue or null to wait without limit.
+     * @return The result of the submit.
+     * @since 1.2.0
+     */
+    public SubmitResult submit(MDialogWindow alert, Object key, Duration timeout) {
+        Objects.requireNonNull(alert);
+        MAlert.MAlertType mAlertType = alert instanceof MAlert mAlert ? mAlert.getMAlertType() : null;
+        return enqueue(() -> alert, alert, key, getPriority(mAlertType), timeout);
+    }
+
+    /**
+     * Submits an alert spec. The alert is created from the spec when it is shown.
+     *
+     * @param spec    The spec.
+     * @param root    The owner window of the created alert.
+     * @param key     The key to find duplicates, e.g. a string or record, or null.
+     * @param timeout The maximum time in the queue or null to wait without limit.
+     * @return The result of the submit.
+     * @since 1.2.0
+     */
+    public SubmitResult submit(MAlertSpec spec, Window root, Object key, Duration timeout) {
+        Objects.requireNonNull(spec);
+        return enqueue(() -> spec.create(root), null, key, getPriority(spec.getAlertType()), timeout);
+    }
+
+    /**
+     * Sets the listener which is called with true when the queue reaches the high-water mark and with false when the
+     * queue is half as full as the high-water mark again. The listener is called on the thread which changed the
+     * queue.
+     *
+     * @param backPressureListener The listener or null.
+     * @since 1.2.0
+     */
+    public void setBackPressureListener(Consumer<Boolean> backPressureListener) {
+        synchronized (lock) {
+            this.backPressureListener = backPressureListener;
+        }
+    }
+
+    /**
+     * @param highWaterMark The number of queued alerts at which the back-pressure listener is informed (1 or +).
+     * @since 1.2.0
+     */
+    public void setHighWaterMark(int highWaterMark) {
+        if (highWaterMark < 1) {
+            throw new IllegalArgumentException("highWaterMark must be greater than zero: " + highWaterMark);
+        }
+        synchronized (lock) {
+            this.highWaterMark = highWaterMark;
+        }
+    }
+
+    /**
+     * Sets the action called on the JavaFX Application Thread with the alerts which were dropped after their timeout.
+     * Alerts of a spec are not created, so the action is only called for submitted alerts.
+     *
+     * @param onExpired The action or null.
+     * @since 1.2.0
+     */
+    public void setOnExpired(Consumer<MDialogWindow> onExpired) {
+        synchronized (lock) {
+            this.onExpired = onExpired;
+        }
+    }
+
+    /**
+     * Sets the action called on the JavaFX Application Thread with the exception, if an alert could not be created or
+     * shown. The place of this alert is given to the next alert. Without an action, the exception is passed to the
+     * uncaught exception handler of the thread.
+     *
+     * @param onShowFailed The action or null.
+     * @since 1.2.0
+     */
+    public void setOnShowFailed(Consumer<RuntimeException> onShowFailed) {
+        synchronized (lock) {
+            this.onShowFailed = onShowFailed;
+        }
+    }
+
+    /**
+     * @return True if the queue reached the high-water mark and was not half emptied since.
+     * @since 1.2.0
+     */
+    public boolean isSaturated() {
+        synchronized (lock) {
+            return saturated;
+        }
+    }
+
+    /**
+     * @return The number of queued alerts.
+     * @since 1.2.0
+     */
+    public int getQueuedCount() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * @return The number of visible alerts.
+     * @since 1.2.0
+     */
+    public int getVisibleCount() {
+        synchronized (lock) {
+            return visibleCount;
+        }
+    }
+
+    /**
+     * @return The number of alerts shown by this scheduler.
+     * @since 1.2.0
+     */
+    public long getShownCount() {
+        synchronized (lock) {
+            return shownCount;
+        }
+    }
+
+    /**
+     * @return The number of alerts dropped, because an alert with the same key was queued or visible.
+     * @since 1.2.0
+     */
+    public long getDuplicateCount() {
+        synchronized (lock) {
+            return duplicateCount;
+        }
+    }
+
+    /**
+     * @return The number of alerts dropped after their timeout.
+     * @since 1.2.0
+     */
+    public long getExpiredCount() {
+        synchronized (lock) {
+            return expiredCount;
+        }
+    }
+
+    /**
+     * @return The number of alerts rejected, because the queue was full.
+     * @since 1.2.0
+     */
+    public long getRejectedCount() {
+        synchronized (lock) {
+            return rejectedCount;
+        }
+    }
+
+    /**
+     * Removes all queued alerts. Visible alerts are not closed.
+     *
+     * @since 1.2.0
+     */
+    public void clear() {
+        Consumer<Boolean> listener;
+        synchronized (lock) {
+            for (Entry entry : queue) {
+                if (entry.key() != null) keys.remove(entry.key());
+            }
+            queue.clear();
+            listener = updateSaturation();
+        }
+        if (listener != null) listener.accept(false);
+    }
+
+    private SubmitResult enqueue(Supplier<MDialogWindow> factory, MDialogWindow alert, Object key, int priority,
+                                 Duration timeout) {
+        long deadline = timeout != null ? System.nanoTime() + timeout.toNanos() : Long.MAX_VALUE;
+        Consumer<Boolean> listener;
+        synchronized (lock) {
+            if (key != null && keys.contains(key)) {
+                duplicateCount++;
+                return SubmitResult.DUPLICATE;
+            }
+            if (queue.size() >= maxQueued) {
+                rejectedCount++;
+                return SubmitResult.REJECTED;
+            }
+
+            if (key != null) keys.add(key);
+            queue.add(new Entry(factory, alert, key, priority, sequence++, deadline));
+            listener = updateSaturation();
+        }
+        if (listener != null) listener.accept(true);
+
+        Platform.runLater(() -> {
+            if (timeout != null) {
+                PauseTransition timeoutTransition = new PauseTransition(
+                        javafx.util.Duration.millis(timeout.toMillis()));
+                timeoutTransition.setOnFinished(x -> showNext());
+                timeoutTransition.play();
+            }
+            showNext();
+        });
+        return SubmitResult.QUEUED;
+    }
+
+    /**
+     * Drops the expired alerts and shows queued alerts until the maximum number of visible alerts is reached. Called
+     * on the JavaFX Application Thread.
+     */
+    private void showNext() {
+        List<Entry> expiredEntries = new ArrayList<>();
+        List<Entry> shownEntries = new ArrayList<>();
+        Consumer<Boolean> listener;
+        Consumer<MDialogWindow> expiredAction;
+        synchronized (lock) {
+            long now = System.nanoTime();
+            for (Iterator<Entry> iterator = queue.iterator(); iterator.hasNext(); ) {
+                Entry entry = iterator.next();
+                if (entry.deadline() - now <= 0) {
+                    iterator.remove();
+                    if (entry.key() != null) keys.remove(entry.key());
+                    expiredEntries.add(entry);
+                }
+            }
+            expiredCount += expiredEntries.size();
+
+            while (visibleCount < maxVisible && !queue.isEmpty()) {
+                shownEntries.add(queue.poll());
+                visibleCount++;
+                shownCount++;
+            }
+            listener = updateSaturation();
+            expiredAction = onExpired;
+        }
+
+        if (listener != null) listener.accept(false);
+        if (expiredAction != null) {
+            for (Entry entry : expiredEntries) {
+                if (entry.alert() != null) expiredAction.accept(entry.alert());
+            }
+        }
+        for (Entry entry : shownEntries) show(entry);
+    }
+
+    private void show(Entry entry) {
+        try {
+            MDialogWindow alert = entry.factory().get();
+            alert.getStage().addEventHandler(WindowEvent.WINDOW_HIDDEN, new EventHandler<>() {
+                @Override
+                public void handle(WindowEvent event) {
+                    alert.getStage().removeEventHandler(WindowEvent.WINDOW_HIDDEN, this);
+                    onHidden(entry);
+                }
+            });
+            alert.show();
+        } catch (RuntimeException e) {
+            // the place of an alert which could not be shown is given to the next alert, the other polled alerts
+            // are still shown
+            onHidden(entry);
+            reportShowFailed(e);
+        }
+    }
+
+    private void reportShowFailed(RuntimeException e) {
+        Consumer<RuntimeException> action;
+        synchronized (lock) {
+            action = onShowFailed;
+        }
+        if (action != null) {
+            action.accept(e);
+        } else {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+    }
+
+    private void onHidden(Entry entry) {
+        synchronized (lock) {
+            visibleCount--;
+            if (entry.key() != null) keys.remove(entry.key());
+        }
+        showNext();
+    }
+
+    /**
+     * Must be called with the lock.
+     *
+     * @return The back-pressure listener if the saturation changed, otherwise null.
+     */
+    private Consumer<Boolean> updateSaturation() {
+        boolean wasSaturated = saturated;
+        if (queue.size() >= highWaterMark) saturated = true;
+        else if (queue.size() <= highWaterMark / 2) saturated = false;
+        return wasSaturated != saturated ? backPressureListener : null;
+    }
+
+    /**
+     * The result of a submit.
+     *
+     * @since 1.2.0
+     */
+    public enum SubmitResult {
+        /**
+         * The alert was queued and is shown when a place is free.
+         */
+        QUEUED,
+        /**
+         * The alert was dropped, because an alert with the same key is queued or visible.
+         */
+        DUPLICATE,
+        /**
+         * The alert was dropped, because the queue is full.
+         */
+        REJECTED
+    }
+
+    private record Entry(Supplier<MDialogWindow> factory, MDialogWindow alert, Object key, int priority,
+                         long sequence, long deadline) {
+    }
+}
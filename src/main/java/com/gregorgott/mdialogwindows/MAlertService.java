@@ -0,0 +1,153 @@
+package com.gregorgott.mdialogwindows;
+
+import javafx.application.Platform;
+import javafx.stage.Window;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The {@code MAlertService} creates and shows alerts for other threads. Its methods can be called from any thread and
+ * return immediately with a {@code CompletableFuture}. The alerts are built on the JavaFX Application Thread, where all
+ * alerts requested in the meantime are handled together in one {@code Platform.runLater()} call.
+ *
+ * <pre>
+ *     // on a worker thread
+ *     MAlertService.showAlert(MAlert.MAlertType.CONFIRMATION, "Delete", "Delete 20 files?", null,
+ *                     "This action can not be undone.", mainStage, "Cancel", "Delete")
+ *             .thenAccept(button -> {
+ *                 if ("Delete".equals(button)) deleteFiles();
+ *             });
+ * </pre>
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public final class MAlertService {
+    private static final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    private MAlertService() {
+    }
+
+    /**
+     * Shows a {@code MAlert} with one button for every button text. The last button is the default button. Every
+     * button closes the alert.
+     *
+     * @param mAlertType     The {@code MAlertType}.
+     * @param title          The title of the alert.
+     * @param headline       The headline (can be null).
+     * @param secondHeadline The second headline (can be null).
+     * @param infoText       The information text (can be null).
+     * @param root           The owner of the alert (can be null).
+     * @param buttons        The button texts.
+     * @return Completes with the text of the pushed button, or with null if the alert was closed without a button.
+     * @since 1.2.0
+     */
+    public static CompletableFuture<String> showAlert(MAlert.MAlertType mAlertType, String title, String headline,
+                                                      String secondHeadline, String infoText, Window root,
+                                                      String... buttons) {
+        Objects.requireNonNull(mAlertType);
+        CompletableFuture<String> result = new CompletableFuture<>();
+
+        submit(result, () -> {
+            MAlert alert = new MAlert(mAlertType, title, root);
+            if (headline != null) alert.setHeadline(headline);
+            if (secondHeadline != null) alert.setSecondHeadline(secondHeadline);
+            if (infoText != null) alert.setInfoText(infoText);
+            for (int i = 0; i < buttons.length; i++) {
+                alert.addButton(buttons[i], x -> alert.closeAlert(), i == buttons.length - 1);
+            }
+            complete(alert.showAsync(), result, MAlertResult::buttonText);
+        });
+        return result;
+    }
+
+    /**
+     * Shows a {@code MTextFieldAlert} with a cancel and a default confirm button.
+     *
+     * @param title         The title of the alert.
+     * @param headline      The headline (can be null).
+     * @param infoText      The text beside the text field (can be null).
+     * @param root          The owner of the alert (can be null).
+     * @param cancelButton  The text of the cancel button.
+     * @param confirmButton The text of the confirm button.
+     * @return Completes with the entered text, or with null if the alert was cancelled or closed.
+     * @since 1.2.0
+     */
+    public static CompletableFuture<String> showTextFieldAlert(String title, String headline, String infoText,
+                                                               Window root, String cancelButton,
+                                                               String confirmButton) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+
+        submit(result, () -> {
+            MTextFieldAlert alert = new MTextFieldAlert(title, root);
+            if (headline != null) alert.setHeadline(headline);
+            if (infoText != null) alert.setInfoText(infoText);
+            alert.addButton(cancelButton, x -> alert.closeAlert(), false);
+            alert.addButton(confirmButton, x -> alert.closeAlert(), true);
+            // the confirm button is the second button
+            complete(alert.showAsync(), result,
+                    alertResult -> alertResult.buttonIndex() == 1 ? alertResult.text() : null);
+        });
+        return result;
+    }
+
+    /**
+     * Creates an alert on the JavaFX Application Thread, e.g. to configure and show it in a following stage of the
+     * {@code CompletableFuture}. Use {@code thenAcceptAsync(..., Platform::runLater)} to continue on the JavaFX
+     * Application Thread.
+     *
+     * @param factory Creates the alert.
+     * @param <T>     The alert class.
+     * @return Completes with the created alert.
+     * @since 1.2.0
+     */
+    public static <T extends MDialogWindow> CompletableFuture<T> create(Supplier<T> factory) {
+        Objects.requireNonNull(factory);
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        submit(result, () -> result.complete(factory.get()));
+        return result;
+    }
+
+    private static void complete(CompletableFuture<MAlertResult> alertResult, CompletableFuture<String> result,
+                                 Function<MAlertResult, String> mapper) {
+        alertResult.whenComplete((value, throwable) -> {
+            if (throwable != null) result.completeExceptionally(throwable);
+            else result.complete(mapper.apply(value));
+        });
+    }
+
+    private static void submit(CompletableFuture<?> result, Runnable task) {
+        pendingTasks.add(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                Platform.runLater(MAlertService::drain);
+            } catch (RuntimeException e) {
+                // the toolkit is not running, the next submit must try to schedule the drain again
+                drainScheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private static void drain() {
+        drainScheduled.set(false);
+
+        Runnable task;
+        while ((task = pendingTasks.poll()) != null) task.run();
+    }
+}
@@ -0,0 +1,235 @@
+package com.gregorgott.mdialogwindows;
+
+import javafx.scene.Group;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * {@code MAlertSnapshots} renders alerts to images without showing them, e.g. for snapshot tests. The content of the
+ * alert is moved into an offscreen scene with the same stylesheets, rendered with {@code Node.snapshot()} and moved
+ * back. One offscreen scene is kept per theme and reused for all alerts of this theme.
+ *
+ * <p> All methods must be called on the JavaFX Application Thread. On a CI server without a display, JavaFX can be
+ * started with Monocle and the software renderer
+ * ({@code -Dglass.platform=Monocle -Dmonocle.platform=Headless -Dprism.order=sw}):
+ *
+ * <pre>
+ *     List&lt;MAlertSnapshots.Snapshot&gt; snapshots = MAlertSnapshots.renderAll(alerts);
+ *     for (MAlertSnapshots.Snapshot snapshot : snapshots) {
+ *         MAlertSnapshots.writePng(snapshot.image(), outputDir.resolve(snapshot.alertType() + ".png"));
+ *     }
+ *     MAlertSnapshots.summarize(snapshots).forEach((type, times) -> System.out.println(type + ": " + times));
+ * </pre>
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public final class MAlertSnapshots {
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+    private static final Map<List<String>, Scene> offscreenScenes = new HashMap<>();
+
+    private MAlertSnapshots() {
+    }
+
+    /**
+     * Renders the alert without showing it. The alert can be shown or rendered again afterwards.
+     *
+     * @param alert The alert, which must not be showing.
+     * @return The snapshot.
+     * @since 1.2.0
+     */
+    public static Snapshot render(MDialogWindow alert) {
+        Stage stage = alert.getStage();
+        if (stage.isShowing()) throw new IllegalStateException("A showing alert can not be rendered offscreen");
+
+        long start = System.nanoTime();
+        Scene alertScene = stage.getScene();
+        List<String> stylesheets = List.copyOf(alertScene.getStylesheets());
+        Scene offscreenScene = offscreenScenes.computeIfAbsent(stylesheets, x -> {
+            Scene scene = new Scene(new Group());
+            scene.getStylesheets().setAll(stylesheets);
+            return scene;
+        });
+
+        alert.sizeToContent();
+        // a node can only be the root of one scene, so the alert scene gets a placeholder while rendering
+        Parent root = alertScene.getRoot();
+        alertScene.setRoot(new Group());
+        offscreenScene.setRoot(root);
+        WritableImage image;
+        try {
+            root.applyCss();
+            // the size computed by sizeToContent() is the pref size of the root
+            double width = root.prefWidth(-1);
+            double height = root.prefHeight(width);
+            root.resize(Math.ceil(width), Math.ceil(height));
+            root.layout();
+
+            SnapshotParameters parameters = new SnapshotParameters();
+            parameters.setFill(Color.TRANSPARENT);
+            image = root.snapshot(parameters, null);
+        } finally {
+            offscreenScene.setRoot(new Group());
+            alertScene.setRoot(root);
+        }
+        return new Snapshot(getAlertType(alert), image, System.nanoTime() - start);
+    }
+
+    /**
+     * Renders several alerts in one pass.
+     *
+     * @param alerts The alerts, which must not be showing.
+     * @return The snapshots in the order of the alerts.
+     * @since 1.2.0
+     */
+    public static List<Snapshot> renderAll(Collection<? extends MDialogWindow> alerts) {
+        List<Snapshot> snapshots = new ArrayList<>(alerts.size());
+        for (MDialogWindow alert : alerts) snapshots.add(render(alert));
+        return snapshots;
+    }
+
+    /**
+     * Summarizes the render times of snapshots per alert type.
+     *
+     * @param snapshots The snapshots.
+     * @return The alert types and the statistics of their render times in nanoseconds, sorted by the alert type.
+     * @since 1.2.0
+     */
+    public static Map<String, LongSummaryStatistics> summarize(Collection<Snapshot> snapshots) {
+        Map<String, LongSummaryStatistics> statistics = new TreeMap<>();
+        for (Snapshot snapshot : snapshots) {
+            statistics.computeIfAbsent(snapshot.alertType(), x -> new LongSummaryStatistics())
+                    .accept(snapshot.renderNanos());
+        }
+        return statistics;
+    }
+
+    /**
+     * Removes the offscreen scenes, e.g. after a batch of snapshots.
+     *
+     * @since 1.2.0
+     */
+    public static void clear() {
+        offscreenScenes.clear();
+    }
+
+    /**
+     * Writes an image as PNG file. Unlike {@code SwingFXUtils}, this method does not need the {@code javafx.swing}
+     * module.
+     *
+     * @param image The image.
+     * @param path  The PNG file, which is replaced if it exists.
+     * @throws IOException If the file can not be written.
+     * @since 1.2.0
+     */
+    public static void writePng(Image image, Path path) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            writePng(image, outputStream);
+        }
+    }
+
+    /**
+     * Writes an image as PNG, as 8 bit RGBA without interlacing.
+     *
+     * @param image        The image.
+     * @param outputStream The stream, which is not closed.
+     * @throws IOException If the image can not be written.
+     * @since 1.2.0
+     */
+    public static void writePng(Image image, OutputStream outputStream) throws IOException {
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        byte[] bgra = new byte[width * height * 4];
+        image.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getByteBgraInstance(), bgra, 0, width * 4);
+
+        ByteArrayOutputStream imageData = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflaterStream = new DeflaterOutputStream(imageData, deflater)) {
+            byte[] row = new byte[1 + width * 4];
+            for (int y = 0; y < height; y++) {
+                // filter type 0 (none) and the pixels of the row as RGBA
+                row[0] = 0;
+                for (int x = 0; x < width; x++) {
+                    int i = (y * width + x) * 4;
+                    row[1 + x * 4] = bgra[i + 2];
+                    row[2 + x * 4] = bgra[i + 1];
+                    row[3 + x * 4] = bgra[i];
+                    row[4 + x * 4] = bgra[i + 3];
+                }
+                deflaterStream.write(row);
+            }
+        } finally {
+            deflater.end();
+        }
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream(13);
+        DataOutputStream headerStream = new DataOutputStream(header);
+        headerStream.writeInt(width);
+        headerStream.writeInt(height);
+        headerStream.writeByte(8); // bit depth
+        headerStream.writeByte(6); // color type RGBA
+        headerStream.writeByte(0); // compression
+        headerStream.writeByte(0); // filter
+        headerStream.writeByte(0); // no interlace
+
+        DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+        dataOutputStream.write(PNG_SIGNATURE);
+        writeChunk(dataOutputStream, "IHDR", header.toByteArray());
+        writeChunk(dataOutputStream, "IDAT", imageData.toByteArray());
+        writeChunk(dataOutputStream, "IEND", new byte[0]);
+        dataOutputStream.flush();
+    }
+
+    private static void writeChunk(DataOutputStream outputStream, String type, byte[] data) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+
+        outputStream.writeInt(data.length);
+        outputStream.write(typeBytes);
+        outputStream.write(data);
+        outputStream.writeInt((int) crc.getValue());
+    }
+
+    private static String getAlertType(MDialogWindow alert) {
+        String className = alert.getClass().getSimpleName();
+        return alert instanceof MAlert mAlert ? className + "-" + mAlert.getMAlertType() : className;
+    }
+
+    /**
+     * A rendered alert.
+     *
+     * @param alertType   The class name of the alert, for a {@link MAlert} followed by the {@code MAlertType}.
+     * @param image       The rendered image.
+     * @param renderNanos The time of the rendering in nanoseconds.
+     * @since 1.2.0
+     */
+    public record Snapshot(String alertType, WritableImage image, long renderNanos) {
+    }
+}
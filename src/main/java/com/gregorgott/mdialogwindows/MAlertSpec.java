@@ -0,0 +1,410 @@
+package com.gregorgott.mdialogwindows;
+
+import javafx.scene.image.Image;
+import javafx.stage.Window;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A {@code MAlertSpec} is an immutable description of an alert, which can be stored as a template and creates any
+ * number of alerts. The spec is validated once when it is built and the theme and image are resolved at the same time,
+ * so creating an alert from a spec does not look up any resources:
+ *
+ * <pre>
+ *     MAlertSpec saveErrorSpec = MAlertSpec.builder()
+ *             .alertType(MAlert.MAlertType.ERROR)
+ *             .title("Error")
+ *             .headline("The file could not be saved")
+ *             .button("OK", true, MDialogWindow::closeAlert)
+ *             .build();
+ *
+ *     saveErrorSpec.create(mainStage).show();
+ *     saveErrorSpec.toBuilder().infoText(e.getMessage()).build().create(mainStage).show();
+ * </pre>
+ *
+ * <p> A spec with an alert type or without text input creates a {@link MAlert}, a spec with text input creates a
+ * {@link MTextFieldAlert}. Specs can be stored by name in the {@link MAlertTemplates}.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public final class MAlertSpec {
+    private final MAlert.MAlertType alertType;
+    private final boolean textInput;
+    private final String promptText;
+    private final String title;
+    private final String headline;
+    private final String secondHeadline;
+    private final String infoText;
+    private final Image image;
+    private final String iconKey;
+    private final MAlertTheme theme;
+    private final int width;
+    private final int height;
+    private final List<ButtonSpec> buttons;
+
+    private MAlertSpec(Builder builder) {
+        alertType = builder.alertType;
+        textInput = builder.textInput;
+        promptText = builder.promptText;
+        title = builder.title;
+        headline = builder.headline;
+        secondHeadline = builder.secondHeadline;
+        infoText = builder.infoText;
+        iconKey = builder.iconKey;
+        theme = builder.theme;
+        width = builder.width;
+        height = builder.height;
+        buttons = List.copyOf(builder.buttons);
+
+        // ----- resolve the resources once ----- //
+        if (builder.image != null) image = builder.image;
+        else if (iconKey != null) image = MAlertIcons.get(iconKey);
+        else image = null;
+    }
+
+    /**
+     * @return A new, empty {@code Builder}.
+     * @since 1.2.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return A {@code Builder} with the values of this spec, e.g. to create a similar spec.
+     * @since 1.2.0
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.alertType = alertType;
+        builder.textInput = textInput;
+        builder.promptText = promptText;
+        builder.title = title;
+        builder.headline = headline;
+        builder.secondHeadline = secondHeadline;
+        builder.infoText = infoText;
+        builder.image = iconKey == null ? image : null;
+        builder.iconKey = iconKey;
+        builder.theme = theme;
+        builder.width = width;
+        builder.height = height;
+        builder.buttons.addAll(buttons);
+        return builder;
+    }
+
+    /**
+     * Creates a new alert of this spec. Must be called on the JavaFX Application Thread.
+     *
+     * @param root The owner window or null.
+     * @return A {@link MTextFieldAlert} if the spec has text input, otherwise a {@link MAlert}.
+     * @since 1.2.0
+     */
+    public MDialogWindow create(Window root) {
+        MDialogWindow alert;
+        if (textInput) {
+            MTextFieldAlert textFieldAlert = new MTextFieldAlert(title, root);
+            textFieldAlert.setInfoText(infoText);
+            textFieldAlert.getTextField().setPromptText(promptText);
+            alert = textFieldAlert;
+        } else {
+            MAlert mAlert = new MAlert(Objects.requireNonNullElse(alertType, MAlert.MAlertType.NONE), title, root);
+            mAlert.setInfoText(infoText);
+            alert = mAlert;
+        }
+
+        if (theme != null && theme != alert.getTheme()) alert.setTheme(theme);
+        if (headline != null) alert.setHeadline(headline);
+        if (secondHeadline != null) alert.setSecondHeadline(secondHeadline);
+        if (image != null) alert.setAlertImage(image);
+        if (width > 0 || height > 0) {
+            alert.setSize(width > 0 ? width : alert.getWidth(), height > 0 ? height : alert.getHeight());
+        }
+
+        for (ButtonSpec button : buttons) {
+            MDialogWindow buttonAlert = alert;
+            alert.addButton(button.text(), x -> button.action().accept(buttonAlert), button.defaultButton());
+        }
+        return alert;
+    }
+
+    /**
+     * @return The alert type or null if the spec has no alert type.
+     * @since 1.2.0
+     */
+    public MAlert.MAlertType getAlertType() {
+        return alertType;
+    }
+
+    /**
+     * @return True if the spec creates a {@link MTextFieldAlert}.
+     * @since 1.2.0
+     */
+    public boolean hasTextInput() {
+        return textInput;
+    }
+
+    /**
+     * @return The title.
+     * @since 1.2.0
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @return The headline.
+     * @since 1.2.0
+     */
+    public String getHeadline() {
+        return headline;
+    }
+
+    /**
+     * @return The second headline.
+     * @since 1.2.0
+     */
+    public String getSecondHeadline() {
+        return secondHeadline;
+    }
+
+    /**
+     * @return The info text.
+     * @since 1.2.0
+     */
+    public String getInfoText() {
+        return infoText;
+    }
+
+    /**
+     * @return The resolved image or null if the image of the alert type is used.
+     * @since 1.2.0
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * @return The theme or null if the theme of the {@link MAlertThemeManager} is used.
+     * @since 1.2.0
+     */
+    public MAlertTheme getTheme() {
+        return theme;
+    }
+
+    /**
+     * @return The buttons in the shown order.
+     * @since 1.2.0
+     */
+    public List<ButtonSpec> getButtons() {
+        return buttons;
+    }
+
+    /**
+     * A button of a {@code MAlertSpec}.
+     *
+     * @param text          The button text.
+     * @param defaultButton True if the button is the default button.
+     * @param action        The action called with the alert when the button is pushed.
+     * @since 1.2.0
+     */
+    public record ButtonSpec(String text, boolean defaultButton, Consumer<? super MDialogWindow> action) {
+        public ButtonSpec {
+            Objects.requireNonNull(text);
+            Objects.requireNonNull(action);
+        }
+    }
+
+    /**
+     * The builder of a {@code MAlertSpec}. A builder is not thread-safe, the built specs are.
+     *
+     * @since 1.2.0
+     */
+    public static final class Builder {
+        private final List<ButtonSpec> buttons = new ArrayList<>();
+        private MAlert.MAlertType alertType;
+        private boolean textInput;
+        private String promptText;
+        private String title;
+        private String headline;
+        private String secondHeadline;
+        private String infoText;
+        private Image image;
+        private String iconKey;
+        private MAlertTheme theme;
+        private int width;
+        private int height;
+
+        private Builder() {
+        }
+
+        /**
+         * @param alertType The alert type, which defines the image of the alert.
+         * @return This builder.
+         * @since 1.2.0
+         */
+        public Builder alertType(MAlert.MAlertType alertType) {
+            this.alertType = alertType;
+            return this;
+        }
+
+        /**
+         * Adds a {@code TextField} to the alert, the spec creates a {@link MTextFieldAlert}.
+         *
+         * @param promptText The prompt text of the {@code TextField} or null.
+         * @return This builder.
+         * @since 1.2.0
+         */
+        public Builder textInput(String promptText) {
+            this.textInput = true;
+            this.promptText = promptText;
+            return this;
+        }
+
+        /**
+         * @param title The title.
+         * @return This builder.
+         * @since 1.2.0
+         */
+        public Builder title(String title) {
+            this.title = title;
+            return this;
+        }
+
+        /**
+         * @param headline The headline.
+         * @return This builder.
+         * @since 1.2.0
+         */
+        public Builder headline(String headline) {
+            this.headline = headline;
+            return this;
+        }
+
+        /**
+         * @param secondHeadline The second headline.
+         * @return This builder.
+         * @since 1.2.0
+         */
+        public Builder secondHeadline(String secondHeadline) {
+            this.secondHeadline = secondHeadline;
+            return this;
+        }
+
+        /**
+         * @param infoText The info text, beside the {@code TextField} if the spec has text input.
+         * @return This builder.
+         * @since 1.2.0
+         */
+        public Builder infoText(String infoText) {
+            this.infoText = infoText;
+            return this;
+        }
+
+        /**
+         * @param image The image, which replaces the image of the alert type.
+         * @return This builder.
+         * @since 1.2.0
+         */
+        public Builder image(Image image) {
+            this.image = image;
+            this.iconKey = null;
+            return this;
+        }
+
+        /**
+         * @param iconKey The key of an icon registered in the {@link MAlertIcons}, which replaces the image of the
+         *                alert type.
+         * @return This builder.
+         * @since 1.2.0
+         */
+        public Builder icon(String iconKey) {
+            this.iconKey = iconKey;
+            this.image = null;
+            return this;
+        }
+
+        /**
+         * @param theme The theme or null to use the theme of the {@link MAlertThemeManager}.
+         * @return This builder.
+         * @since 1.2.0
+         */
+        public Builder theme(MAlertTheme theme) {
+            this.theme = theme;
+            return this;
+        }
+
+        /**
+         * @param alertStyle The {@code AlertStyle} of a built-in theme.
+         * @return This builder.
+         * @since 1.2.0
+         */
+        public Builder theme(MDialogWindow.AlertStyle alertStyle) {
+            return theme(MAlertThemes.get(alertStyle));
+        }
+
+        /**
+         * @param width  The width of the alert, 0 for the default width.
+         * @param height The height of the alert, 0 for the default height.
+         * @return This builder.
+         * @since 1.2.0
+         */
+        public Builder size(int width, int height) {
+            this.width = width;
+            this.height = height;
+            return this;
+        }
+
+        /**
+         * Adds a button.
+         *
+         * @param text          The button text.
+         * @param defaultButton True if the button is the default button.
+         * @param action        The action called with the alert when the button is pushed.
+         * @return This builder.
+         * @since 1.2.0
+         */
+        public Builder button(String text, boolean defaultButton, Consumer<? super MDialogWindow> action) {
+            buttons.add(new ButtonSpec(text, defaultButton, action));
+            return this;
+        }
+
+        /**
+         * Removes all buttons.
+         *
+         * @return This builder.
+         * @since 1.2.0
+         */
+        public Builder clearButtons() {
+            buttons.clear();
+            return this;
+        }
+
+        /**
+         * Validates the values and creates the spec. The image of an icon key is resolved now.
+         *
+         * @return The spec.
+         * @throws IllegalStateException If the values are not valid.
+         * @since 1.2.0
+         */
+        public MAlertSpec build() {
+            if (width < 0 || height < 0) {
+                throw new IllegalStateException("The size must not be negative: " + width + "x" + height);
+            }
+            if (iconKey != null && MAlertIcons.get(iconKey) == null) {
+                throw new IllegalStateException("No icon is registered with the key " + iconKey);
+            }
+            if (textInput && alertType != null) {
+                throw new IllegalStateException("A spec with text input can not have an alert type");
+            }
+            if (buttons.stream().filter(ButtonSpec::defaultButton).count() > 1) {
+                throw new IllegalStateException("A spec must not have more than one default button");
+            }
+            return new MAlertSpec(this);
+        }
+    }
+}
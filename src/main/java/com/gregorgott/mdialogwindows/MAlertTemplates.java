@@ -0,0 +1,84 @@
+package com.gregorgott.mdialogwindows;
+
+import javafx.stage.Window;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code MAlertTemplates} stores {@link MAlertSpec}s by name, so an alert which is used in many places is described
+ * only once:
+ *
+ * <pre>
+ *     // at the application start
+ *     MAlertTemplates.register("save-error", saveErrorSpec);
+ *
+ *     MAlertTemplates.create("save-error", mainStage).show();
+ * </pre>
+ *
+ * <p> The specs are validated and their resources resolved when they are built, so creating an alert from a template
+ * is only a map lookup plus the creation of the alert. The registry is thread-safe.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public final class MAlertTemplates {
+    private static final Map<String, MAlertSpec> templates = new ConcurrentHashMap<>();
+
+    private MAlertTemplates() {
+    }
+
+    /**
+     * Registers a template. An existing template with the same name is replaced.
+     *
+     * @param name The name of the template.
+     * @param spec The spec.
+     * @since 1.2.0
+     */
+    public static void register(String name, MAlertSpec spec) {
+        templates.put(Objects.requireNonNull(name), Objects.requireNonNull(spec));
+    }
+
+    /**
+     * @param name The name of the template.
+     * @since 1.2.0
+     */
+    public static void unregister(String name) {
+        templates.remove(Objects.requireNonNull(name));
+    }
+
+    /**
+     * @param name The name of the template.
+     * @return The spec or null if no template with this name exists.
+     * @since 1.2.0
+     */
+    public static MAlertSpec get(String name) {
+        return templates.get(Objects.requireNonNull(name));
+    }
+
+    /**
+     * @return The names of all templates.
+     * @since 1.2.0
+     */
+    public static Set<String> getNames() {
+        return Set.copyOf(templates.keySet());
+    }
+
+    /**
+     * Creates a new alert of a template. Must be called on the JavaFX Application Thread.
+     *
+     * @param name The name of the template.
+     * @param root The owner window or null.
+     * @return The alert.
+     * @throws IllegalArgumentException If no template with this name exists.
+     * @since 1.2.0
+     */
+    public static MDialogWindow create(String name, Window root) {
+        MAlertSpec spec = get(name);
+        if (spec == null) throw new IllegalArgumentException("No template is registered with the name " + name);
+        return spec.create(root);
+    }
+}
@@ -0,0 +1,55 @@
+package com.gregorgott.mdialogwindows;
+
+import java.util.Objects;
+
+/**
+ * A {@code MAlertTheme} describes the look of the alerts. It contains the resolved URL of the stylesheet used by most
+ * alerts and the URL of the stylesheet used by the {@link MImageAlert}.
+ *
+ * <p> Themes are created and stored by {@link MAlertThemes}. For every {@code AlertStyle} a built-in theme exists,
+ * custom themes are added with {@code MAlertThemes.register()}.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public final class MAlertTheme {
+    private final String name;
+    private final String stylesheet;
+    private final String imageAlertStylesheet;
+
+    MAlertTheme(String name, String stylesheet, String imageAlertStylesheet) {
+        this.name = Objects.requireNonNull(name);
+        this.stylesheet = Objects.requireNonNull(stylesheet);
+        this.imageAlertStylesheet = Objects.requireNonNull(imageAlertStylesheet);
+    }
+
+    /**
+     * @return The name of the theme.
+     * @since 1.2.0
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The URL of the stylesheet used by all alerts except the {@code MImageAlert}.
+     * @since 1.2.0
+     */
+    public String getStylesheet() {
+        return stylesheet;
+    }
+
+    /**
+     * @return The URL of the stylesheet used by the {@code MImageAlert}.
+     * @since 1.2.0
+     */
+    public String getImageAlertStylesheet() {
+        return imageAlertStylesheet;
+    }
+
+    @Override
+    public String toString() {
+        return "MAlertTheme[" + name + "]";
+    }
+}
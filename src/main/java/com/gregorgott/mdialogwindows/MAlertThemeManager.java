@@ -0,0 +1,91 @@
+package com.gregorgott.mdialogwindows;
+
+import javafx.application.Platform;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * The {@code MAlertThemeManager} holds the default theme of new alerts and switches the theme of all alerts at once.
+ * The scenes of the alerts are not rebuilt, only the stylesheet of every scene is replaced. All alerts are switched in
+ * the same JavaFX Application Thread call, so the new theme is shown in one pulse:
+ *
+ * <pre>
+ *     MAlertThemeManager.setAlertStyle(MDialogWindow.AlertStyle.DARK_ROUNDED);
+ * </pre>
+ *
+ * <p> The alerts are only weakly referenced, so closed alerts can still be garbage collected.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public final class MAlertThemeManager {
+    // only accessed on the JavaFX Application Thread
+    private static final Set<MDialogWindow> alerts = Collections.newSetFromMap(new WeakHashMap<>());
+    private static volatile MAlertTheme theme = MAlertThemes.get(MDialogWindow.AlertStyle.LIGHT_ROUNDED);
+
+    private MAlertThemeManager() {
+    }
+
+    /**
+     * @return The theme of new alerts.
+     * @since 1.2.0
+     */
+    public static MAlertTheme getTheme() {
+        return theme;
+    }
+
+    /**
+     * Sets the theme of new alerts and of all existing alerts. Can be called from any thread, the existing alerts are
+     * switched on the JavaFX Application Thread.
+     *
+     * @param theme The theme.
+     * @since 1.2.0
+     */
+    public static void setTheme(MAlertTheme theme) {
+        MAlertThemeManager.theme = Objects.requireNonNull(theme);
+
+        if (Platform.isFxApplicationThread()) applyTheme(theme);
+        else Platform.runLater(() -> applyTheme(theme));
+    }
+
+    /**
+     * Sets a built-in theme as theme of new alerts and of all existing alerts.
+     *
+     * @param alertStyle The {@code AlertStyle} of the built-in theme.
+     * @since 1.2.0
+     */
+    public static void setAlertStyle(MDialogWindow.AlertStyle alertStyle) {
+        setTheme(MAlertThemes.get(alertStyle));
+    }
+
+    /**
+     * Must be called on the JavaFX Application Thread.
+     *
+     * @return The number of alerts which were not garbage collected yet.
+     * @since 1.2.0
+     */
+    public static int getAlertCount() {
+        return alerts.size();
+    }
+
+    static void register(MDialogWindow alert) {
+        alerts.add(alert);
+    }
+
+    static void unregister(MDialogWindow alert) {
+        alerts.remove(alert);
+    }
+
+    private static void applyTheme(MAlertTheme theme) {
+        // skip outdated calls if setTheme() was called again in the meantime
+        if (theme != MAlertThemeManager.theme) return;
+
+        for (MDialogWindow alert : alerts) {
+            if (alert.getTheme() != theme) alert.setTheme(theme);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.gregorgott.mdialogwindows;
+
+import javafx.scene.Group;
+import javafx.scene.Scene;
+
+import java.net.URL;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code MAlertThemes} is the registry of all {@link MAlertTheme}s. The stylesheet URLs of the built-in themes are
+ * resolved only once, when this class is loaded, so creating an alert does not look up the stylesheets in the
+ * classpath again.
+ *
+ * <p> All alerts of a theme use the same stylesheet URL. JavaFX parses a stylesheet only once as long as a scene
+ * uses it, so with {@code preload()} the stylesheets are parsed once and kept, even if no alert is open:
+ *
+ * <pre>
+ *     MAlertThemes.preload(); // on the JavaFX Application Thread, e.g. in Application.start()
+ *     MAlertTheme theme = MAlertThemes.register("high-contrast", "/css/alert.css", "/css/image-alert.css");
+ *     alert.setTheme(theme);
+ * </pre>
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public final class MAlertThemes {
+    private static final Map<MDialogWindow.AlertStyle, MAlertTheme> builtInThemes =
+            new EnumMap<>(MDialogWindow.AlertStyle.class);
+    private static final Map<String, MAlertTheme> themes = new ConcurrentHashMap<>();
+    private static Scene stylesheetHolder;
+
+    static {
+        String imageAlertLight = resolve("stylesheets/stylesheet-image-alert-light.css");
+        String imageAlertDark = resolve("stylesheets/stylesheet-image-alert-dark.css");
+
+        addBuiltInTheme(MDialogWindow.AlertStyle.LIGHT_CLASSIC, "stylesheets/stylesheet-light-classic.css",
+                imageAlertLight);
+        addBuiltInTheme(MDialogWindow.AlertStyle.LIGHT_ROUNDED, "stylesheets/stylesheet-light-rounded.css",
+                imageAlertLight);
+        addBuiltInTheme(MDialogWindow.AlertStyle.DARK_CLASSIC, "stylesheets/stylesheet-dark-classic.css",
+                imageAlertDark);
+        addBuiltInTheme(MDialogWindow.AlertStyle.DARK_ROUNDED, "stylesheets/stylesheet-dark-rounded.css",
+                imageAlertDark);
+    }
+
+    private MAlertThemes() {
+    }
+
+    /**
+     * @param alertStyle The {@code AlertStyle}.
+     * @return The built-in theme of the {@code AlertStyle}.
+     * @since 1.2.0
+     */
+    public static MAlertTheme get(MDialogWindow.AlertStyle alertStyle) {
+        return builtInThemes.get(Objects.requireNonNull(alertStyle));
+    }
+
+    /**
+     * @param theme The theme.
+     * @return The {@code AlertStyle} of a built-in theme or null for a custom theme.
+     */
+    static MDialogWindow.AlertStyle getAlertStyle(MAlertTheme theme) {
+        for (Map.Entry<MDialogWindow.AlertStyle, MAlertTheme> entry : builtInThemes.entrySet()) {
+            if (entry.getValue() == theme) return entry.getKey();
+        }
+        return null;
+    }
+
+    /**
+     * @param name The name of the theme, for built-in themes the name of the {@code AlertStyle}.
+     * @return The theme or null if no theme with this name exists.
+     * @since 1.2.0
+     */
+    public static MAlertTheme get(String name) {
+        return themes.get(Objects.requireNonNull(name));
+    }
+
+    /**
+     * @return All registered themes, including the built-in themes.
+     * @since 1.2.0
+     */
+    public static Collection<MAlertTheme> getThemes() {
+        return List.copyOf(themes.values());
+    }
+
+    /**
+     * Registers a custom theme. An existing theme with the same name is replaced, the built-in themes can not be
+     * replaced.
+     *
+     * @param name                 The name of the theme.
+     * @param stylesheet           The stylesheet URL used by all alerts except the {@code MImageAlert}.
+     * @param imageAlertStylesheet The stylesheet URL used by the {@code MImageAlert}.
+     * @return The registered theme.
+     * @since 1.2.0
+     */
+    public static MAlertTheme register(String name, String stylesheet, String imageAlertStylesheet) {
+        MAlertTheme theme = new MAlertTheme(name, stylesheet, imageAlertStylesheet);
+        themes.compute(name, (key, oldTheme) -> {
+            if (oldTheme != null && builtInThemes.containsValue(oldTheme)) {
+                throw new IllegalArgumentException("The built-in theme " + name + " can not be replaced");
+            }
+            return theme;
+        });
+        return theme;
+    }
+
+    /**
+     * Parses the stylesheets of all registered themes and keeps them parsed, so the first alert of a theme does not
+     * have to wait for the CSS parser. Must be called on the JavaFX Application Thread. Themes registered later are
+     * parsed when they are used the first time, or when this method is called again.
+     *
+     * @since 1.2.0
+     */
+    public static void preload() {
+        if (stylesheetHolder == null) stylesheetHolder = new Scene(new Group());
+
+        stylesheetHolder.getStylesheets().clear();
+        for (MAlertTheme theme : themes.values()) {
+            if (!stylesheetHolder.getStylesheets().contains(theme.getStylesheet())) {
+                stylesheetHolder.getStylesheets().add(theme.getStylesheet());
+            }
+            if (!stylesheetHolder.getStylesheets().contains(theme.getImageAlertStylesheet())) {
+                stylesheetHolder.getStylesheets().add(theme.getImageAlertStylesheet());
+            }
+        }
+        stylesheetHolder.getRoot().applyCss();
+    }
+
+    private static void addBuiltInTheme(MDialogWindow.AlertStyle alertStyle, String stylesheet,
+                                        String imageAlertStylesheet) {
+        MAlertTheme theme = new MAlertTheme(alertStyle.name(), resolve(stylesheet), imageAlertStylesheet);
+        builtInThemes.put(alertStyle, theme);
+        themes.put(theme.getName(), theme);
+    }
+
+    private static String resolve(String name) {
+        URL url = Objects.requireNonNull(MAlertThemes.class.getResource(name));
+        return url.toExternalForm();
+    }
+}
@@ -1,26 +1,39 @@
 package com.gregorgott.mdialogwindows;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
+import javafx.event.EventDispatcher;
 import javafx.event.EventHandler;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
 import javafx.stage.Modality;
+import javafx.stage.Screen;
 import javafx.stage.Stage;
 import javafx.stage.Window;
+import javafx.stage.WindowEvent;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * MDialogWindow is the parent class of all alerts. It controls the basic structure of the alert (header and buttons).
@@ -44,22 +57,43 @@ import java.util.Objects;
  * @since 2022-10-16 (YYYY-MM-DD)
  */
 public class MDialogWindow {
-    private final Window root;
+    private static final Font HEADLINE_FONT = new Font("Helvetica", 16);
+    private static final Font SECOND_HEADLINE_FONT = new Font("Helvetica", 13);
+    // the nested event loops of showAndWait(), the innermost loop first; used on the JavaFX Application Thread only
+    private static final ArrayDeque<NestedLoop> nestedLoops = new ArrayDeque<>();
+    private static volatile MAlertMetricsListener metricsListener;
+
     private final Stage stage;
     private final BorderPane borderPane;
     private final ArrayList<Button> buttonArrayList;
-    private final ImageView alertImageView;
-    private final Label headlineLabel;
-    private final Label secondHeadlineLabel;
-    private final VBox headerLabelsVBox;
-    private final HBox headerBox;
-    private final HBox bottomBox;
+    private final String initialTitle;
+    private final int initialWidth;
+    private final int initialHeight;
+    private ImageView alertImageView;
+    private Label headlineLabel;
+    private Label secondHeadlineLabel;
+    private VBox headerLabelsVBox;
+    private HBox headerBox;
+    private HBox bottomBox;
+    private double buttonSpacing;
+    private int width;
+    private int height;
     private AlertStyle alertStyle;
+    private MAlertTheme theme;
+    private boolean metricsHandlersInstalled;
+    private long showNanos;
+    private boolean disposed;
+    private CompletableFuture<MAlertResult> result;
+    private Button pressedButton;
+    private PauseTransition resultTimeout;
 
     /**
      * Sets the alert basic structure with a headline, second headline and an image. A Stage with given dimensions, title
      * and owner. If the width or height is zero, the window is automatically resized to the smallest possible size.
      *
+     * <p> The nodes of the header and the button bar are created when they are needed the first time, so alerts
+     * without a header or buttons have a smaller scene graph.
+     *
      * @param height Height of the Stage (0 or +).
      * @param width  Width of the Stage (0 or +).
      * @param title  The title of the alert.
@@ -67,44 +101,19 @@ public class MDialogWindow {
      * @since 1.0.0
      */
     public MDialogWindow(int width, int height, String title, Window root) {
-        this.root = root;
+        MAlertMetricsListener listener = metricsListener;
+        long constructionStart = listener != null ? System.nanoTime() : 0;
 
         // ----- Initialize variables ----- //
         buttonArrayList = new ArrayList<>();
-        alertStyle = AlertStyle.LIGHT_ROUNDED;
-        alertImageView = new ImageView();
+        theme = MAlertThemeManager.getTheme();
+        alertStyle = Objects.requireNonNullElse(MAlertThemes.getAlertStyle(theme), AlertStyle.LIGHT_ROUNDED);
         // ----- Initialize variables ----- //
-        // ----- header labels ----- //
-        headlineLabel = new Label();
-        headlineLabel.setWrapText(true);
-        headlineLabel.setFont(new Font("Helvetica", 16));
-
-        secondHeadlineLabel = new Label();
-        secondHeadlineLabel.setWrapText(true);
-        secondHeadlineLabel.setFont(new Font("Helvetica", 13));
-
-        headerLabelsVBox = new VBox();
-        headerLabelsVBox.setAlignment(Pos.CENTER_LEFT);
-        headerLabelsVBox.setSpacing(5);
-        // ----- header labels ----- //
-        // ----- header box ----- //
-        headerBox = new HBox();
-        headerBox.setSpacing(15);
-        headerBox.setPadding(new Insets(5));
-        headerBox.setId("header-box");
-        headerBox.getChildren().addAll(headerLabelsVBox);
-        // ----- header box ----- //
-        // ----- bottom box ----- //
-        bottomBox = new HBox();
-        bottomBox.setAlignment(Pos.CENTER_RIGHT);
-        // ----- bottom box ----- //
         borderPane = new BorderPane();
         borderPane.setPadding(new Insets(15));
-        borderPane.setTop(headerBox);
-        borderPane.setBottom(bottomBox);
 
         Scene scene = new Scene(borderPane);
-        scene.getStylesheets().add(getStylesheet(alertStyle));
+        scene.getStylesheets().add(getStylesheet(theme));
 
         stage = new Stage();
         stage.setScene(scene);
@@ -112,11 +121,41 @@ public class MDialogWindow {
         stage.setResizable(false);
         stage.initOwner(root);
         stage.initModality(Modality.WINDOW_MODAL);
-        // If the width or height is null, the size will be automatically set
-        if (height > 0) stage.setHeight(height);
-        if (width > 0) stage.setWidth(width);
+        // the size of the scene is computed from the width, height and content in show()
+        this.width = width;
+        this.height = height;
+        // restored by reset()
+        initialTitle = title;
+        initialWidth = width;
+        initialHeight = height;
 
         useRootWindowIcon(true);
+        MAlertThemeManager.register(this);
+        stage.addEventHandler(WindowEvent.WINDOW_SHOWN, x -> MAlertLeakTracker.untrack(this));
+        stage.addEventHandler(WindowEvent.WINDOW_HIDDEN, x -> onHidden());
+
+        if (listener != null) {
+            listener.onEvent(this, MAlertLifecycleEvent.CONSTRUCTED, System.nanoTime() - constructionStart, -1);
+        }
+    }
+
+    /**
+     * @return The installed {@code MAlertMetricsListener} or null.
+     * @since 1.2.0
+     */
+    public static MAlertMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * Installs a {@code MAlertMetricsListener}, which receives the timed lifecycle events of all alerts, e.g. a
+     * {@link MAlertHistogramMetrics} or {@link MAlertJfrMetrics}. If no listener is installed, nothing is measured.
+     *
+     * @param listener The listener or null to remove the installed listener.
+     * @since 1.2.0
+     */
+    public static void setMetricsListener(MAlertMetricsListener listener) {
+        metricsListener = listener;
     }
 
     /**
@@ -136,13 +175,40 @@ public class MDialogWindow {
     }
 
     /**
-     * Sets the {@code mAlertStyle}.
+     * Sets the {@code mAlertStyle} and replaces the stylesheet of the alert scene.
      *
      * @param alertStyle The {@code MAlertStyle}.
      * @since 1.0.0
      */
     public void setMAlertStyle(AlertStyle alertStyle) {
-        this.alertStyle = alertStyle;
+        setTheme(MAlertThemes.get(alertStyle));
+    }
+
+    /**
+     * @return The {@code MAlertTheme} of the alert.
+     * @since 1.2.0
+     */
+    public MAlertTheme getTheme() {
+        return theme;
+    }
+
+    /**
+     * Sets the {@code MAlertTheme} and replaces the stylesheet of the alert scene.
+     *
+     * @param theme The {@code MAlertTheme}, e.g. a custom theme from {@link MAlertThemes}.
+     * @since 1.2.0
+     */
+    public void setTheme(MAlertTheme theme) {
+        Objects.requireNonNull(theme);
+        ObservableList<String> stylesheets = stage.getScene().getStylesheets();
+        int index = stylesheets.indexOf(getStylesheet(this.theme));
+        // replace the old stylesheet in one change, so the CSS is only processed once
+        if (index >= 0) stylesheets.set(index, getStylesheet(theme));
+        else stylesheets.add(getStylesheet(theme));
+
+        this.theme = theme;
+        AlertStyle themeStyle = MAlertThemes.getAlertStyle(theme);
+        if (themeStyle != null) alertStyle = themeStyle;
     }
 
     /**
@@ -168,6 +234,11 @@ public class MDialogWindow {
      * @since 1.0.0
      */
     public ImageView getAlertImageView() {
+        if (alertImageView == null) {
+            alertImageView = new ImageView();
+            alertImageView.setFitWidth(50);
+            alertImageView.setFitHeight(50);
+        }
         return alertImageView;
     }
 
@@ -179,13 +250,12 @@ public class MDialogWindow {
      */
     public void setAlertImage(Image image) {
         if (image != null) {
-            ImageView imageView = new ImageView();
+            ImageView imageView = getAlertImageView();
             imageView.setImage(image);
-            imageView.setFitWidth(50);
-            imageView.setFitHeight(50);
-            headerBox.getChildren().add(0, imageView);
-        } else {
-            if (headerBox.getChildren().get(0).getClass() == ImageView.class) headerBox.getChildren().remove(0);
+            if (!getHeaderBox().getChildren().contains(imageView)) getHeaderBox().getChildren().add(0, imageView);
+        } else if (alertImageView != null) {
+            alertImageView.setImage(null);
+            if (headerBox != null) headerBox.getChildren().remove(alertImageView);
         }
     }
 
@@ -194,7 +264,7 @@ public class MDialogWindow {
      * @since 1.0.0
      */
     public String getHeadline() {
-        return headlineLabel.getText();
+        return headlineLabel != null ? headlineLabel.getText() : null;
     }
 
     /**
@@ -204,8 +274,15 @@ public class MDialogWindow {
      * @since 1.0.0
      */
     public void setHeadline(String headline) {
+        if (headlineLabel == null) {
+            headlineLabel = new Label();
+            headlineLabel.setWrapText(true);
+            headlineLabel.setFont(HEADLINE_FONT);
+        }
         headlineLabel.setText(headline);
-        headerLabelsVBox.getChildren().add(0, headlineLabel);
+        if (!getHeaderLabelsVBox().getChildren().contains(headlineLabel)) {
+            getHeaderLabelsVBox().getChildren().add(0, headlineLabel);
+        }
     }
 
     /**
@@ -213,7 +290,7 @@ public class MDialogWindow {
      * @since 1.0.0
      */
     public String getSecondHeadline() {
-        return secondHeadlineLabel.getText();
+        return secondHeadlineLabel != null ? secondHeadlineLabel.getText() : null;
     }
 
     /**
@@ -223,8 +300,15 @@ public class MDialogWindow {
      * @since 1.0.0
      */
     public void setSecondHeadline(String contentText) {
+        if (secondHeadlineLabel == null) {
+            secondHeadlineLabel = new Label();
+            secondHeadlineLabel.setWrapText(true);
+            secondHeadlineLabel.setFont(SECOND_HEADLINE_FONT);
+        }
         secondHeadlineLabel.setText(contentText);
-        headerLabelsVBox.getChildren().add(1, secondHeadlineLabel);
+        if (!getHeaderLabelsVBox().getChildren().contains(secondHeadlineLabel)) {
+            getHeaderLabelsVBox().getChildren().add(secondHeadlineLabel);
+        }
     }
 
     /**
@@ -249,7 +333,21 @@ public class MDialogWindow {
         button.setMinWidth(60);
         button.setOnAction(onClickEvent);
         button.setDefaultButton(defaultButton);
-        bottomBox.getChildren().add(button);
+        // the pressed button is only remembered while its action is handled, so the result is only a button result
+        // if the action closes the alert
+        EventDispatcher buttonDispatcher = button.getEventDispatcher();
+        button.setEventDispatcher((event, tail) -> {
+            if (event.getEventType() != ActionEvent.ACTION) return buttonDispatcher.dispatchEvent(event, tail);
+
+            pressedButton = button;
+            try {
+                return buttonDispatcher.dispatchEvent(event, tail);
+            } finally {
+                pressedButton = null;
+            }
+        });
+        if (metricsHandlersInstalled) button.addEventHandler(ActionEvent.ACTION, this::onButtonAction);
+        getButtonBox().getChildren().add(button);
         buttonArrayList.add(button);
     }
 
@@ -260,8 +358,9 @@ public class MDialogWindow {
      * @since 1.1.0
      */
     public void useRootWindowIcon(boolean b) {
-        if (root != null) {
-            if (b) stage.getIcons().addAll(((Stage) root).getIcons());
+        // the icons are copied, a binding would let the owner keep the alert alive
+        if (stage.getOwner() instanceof Stage owner) {
+            if (b) stage.getIcons().addAll(owner.getIcons());
             else stage.getIcons().clear();
         }
     }
@@ -281,7 +380,47 @@ public class MDialogWindow {
      * @since 1.1.0
      */
     protected void setButtonSpacing(double spacing) {
-        bottomBox.setSpacing(spacing);
+        buttonSpacing = spacing;
+        if (bottomBox != null) bottomBox.setSpacing(spacing);
+    }
+
+    /**
+     * Returns the {@code bottomBox} which contains the buttons. The box is created and set as bottom of the
+     * {@code borderPane} on the first call.
+     *
+     * @return The {@code bottomBox}.
+     * @since 1.2.0
+     */
+    protected HBox getButtonBox() {
+        if (bottomBox == null) {
+            bottomBox = new HBox();
+            bottomBox.setAlignment(Pos.CENTER_RIGHT);
+            bottomBox.setSpacing(buttonSpacing);
+            borderPane.setBottom(bottomBox);
+        }
+        return bottomBox;
+    }
+
+    private HBox getHeaderBox() {
+        if (headerBox == null) {
+            headerBox = new HBox();
+            headerBox.setSpacing(15);
+            headerBox.setPadding(new Insets(5));
+            headerBox.setId("header-box");
+            headerBox.getChildren().add(getHeaderLabelsVBox());
+            borderPane.setTop(headerBox);
+        }
+        return headerBox;
+    }
+
+    private VBox getHeaderLabelsVBox() {
+        if (headerLabelsVBox == null) {
+            headerLabelsVBox = new VBox();
+            headerLabelsVBox.setAlignment(Pos.CENTER_LEFT);
+            headerLabelsVBox.setSpacing(5);
+            getHeaderBox();
+        }
+        return headerLabelsVBox;
     }
 
     /**
@@ -291,18 +430,209 @@ public class MDialogWindow {
      * @since 1.0.0
      */
     protected String getStylesheet(AlertStyle alertStyle) {
-        String css = null;
-        switch (alertStyle) {
-            case LIGHT_CLASSIC -> css = Objects.requireNonNull(getClass().getResource(
-                    "stylesheets/stylesheet-light-classic.css")).toExternalForm();
-            case LIGHT_ROUNDED -> css = Objects.requireNonNull(getClass().getResource(
-                    "stylesheets/stylesheet-light-rounded.css")).toExternalForm();
-            case DARK_CLASSIC -> css = Objects.requireNonNull(getClass().getResource(
-                    "stylesheets/stylesheet-dark-classic.css")).toExternalForm();
-            case DARK_ROUNDED -> css = Objects.requireNonNull(getClass().getResource(
-                    "stylesheets/stylesheet-dark-rounded.css")).toExternalForm();
+        return getStylesheet(MAlertThemes.get(alertStyle));
+    }
+
+    /**
+     * Returns the stylesheet URL of the {@code MAlertTheme} used by this alert. The URL is resolved once by
+     * {@link MAlertThemes}, so this method does not access the classpath.
+     *
+     * @param theme The {@code MAlertTheme}.
+     * @return The stylesheet URL.
+     * @since 1.2.0
+     */
+    protected String getStylesheet(MAlertTheme theme) {
+        return theme.getStylesheet();
+    }
+
+    /**
+     * Resets the alert to the state after the construction, so it can be reused by a {@link MDialogWindowPool}. The
+     * headline, second headline, alert image, buttons and the center of the {@code borderPane} are removed, the title
+     * and size of the constructor are restored and the theme is set to the theme of the {@link MAlertThemeManager}.
+     * Changes made directly on the {@code Stage} are kept. Child classes reset their own content and call this method.
+     *
+     * @since 1.2.0
+     */
+    protected void reset() {
+        stage.setTitle(initialTitle);
+        width = initialWidth;
+        height = initialHeight;
+        setTheme(MAlertThemeManager.getTheme());
+
+        if (headlineLabel != null) headlineLabel.setText(null);
+        if (secondHeadlineLabel != null) secondHeadlineLabel.setText(null);
+        if (headerLabelsVBox != null) headerLabelsVBox.getChildren().clear();
+        if (alertImageView != null) {
+            alertImageView.setImage(null);
+            if (headerBox != null) headerBox.getChildren().remove(alertImageView);
+        }
+        if (bottomBox != null) bottomBox.getChildren().clear();
+        buttonArrayList.clear();
+        borderPane.setCenter(null);
+    }
+
+    /**
+     * Sets the size of the alert. The size is the minimum size of the content, if the content needs more space, the
+     * alert is higher.
+     *
+     * @param width  The width (0 or +), 0 to compute the width from the content.
+     * @param height The height (0 or +), 0 to compute the height from the content.
+     * @since 1.2.0
+     */
+    public void setSize(int width, int height) {
+        if (width < 0 || height < 0) throw new IllegalArgumentException("The size must not be negative");
+
+        this.width = width;
+        this.height = height;
+        if (stage.isShowing()) sizeToContent();
+    }
+
+    /**
+     * @return The width set by the constructor or {@code setSize()}, 0 if the width is computed.
+     * @since 1.2.0
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return The minimum height set by the constructor or {@code setSize()}, 0 if the height is computed.
+     * @since 1.2.0
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Computes the size of the alert before it is shown, so the window is shown in its final size and the layout is
+     * done only once. The width is the width of the alert and the height the height of the content at this width, but
+     * at least the height of the alert. The texts are measured with the {@link MTextMeasurer}, so alerts with the same
+     * texts do not measure them again. Called by {@code show()}.
+     *
+     * <p> If the width is 0, the width is computed from the content, too. The size is limited to 90% of the screen.
+     *
+     * @since 1.2.0
+     */
+    public void sizeToContent() {
+        if (!(stage.getScene().getRoot() instanceof Region root)) return;
+
+        root.setPrefSize(Region.USE_COMPUTED_SIZE, Region.USE_COMPUTED_SIZE);
+        root.applyCss();
+        // a very long text must not make the alert larger than the screen
+        Rectangle2D screenBounds = getScreenBounds();
+        double sceneWidth = width > 0 ? width
+                : Math.min(Math.ceil(computeContentWidth()), Math.floor(screenBounds.getWidth() * 0.9));
+        double contentHeight = Math.ceil(computeContentHeight(sceneWidth));
+        // the size can not be computed yet, e.g. of an image which is loaded, so JavaFX computes it
+        if (sceneWidth <= 0 || contentHeight <= 0) return;
+
+        double sceneHeight = Math.max(height, contentHeight);
+        root.setPrefSize(sceneWidth, Math.min(sceneHeight, Math.floor(screenBounds.getHeight() * 0.9)));
+
+        if (stage.isShowing()) stage.sizeToScene();
+    }
+
+    /**
+     * @return The visual bounds of the screen of the owner window or of the shown alert, otherwise of the primary
+     * screen.
+     */
+    private Rectangle2D getScreenBounds() {
+        Window window = stage.getOwner() != null ? stage.getOwner() : stage.isShowing() ? stage : null;
+        if (window != null) {
+            List<Screen> screens = Screen.getScreensForRectangle(window.getX(), window.getY(), window.getWidth(),
+                    window.getHeight());
+            if (!screens.isEmpty()) return screens.get(0).getVisualBounds();
+        }
+        return Screen.getPrimary().getVisualBounds();
+    }
+
+    /**
+     * Computes the width of the content, if the alert has no width.
+     *
+     * @return The width of the content.
+     * @since 1.2.0
+     */
+    protected double computeContentWidth() {
+        return stage.getScene().getRoot().prefWidth(-1);
+    }
+
+    /**
+     * Computes the height of the content of the {@code borderPane}: the header, the center and the button bar.
+     *
+     * @param width The width of the {@code borderPane}.
+     * @return The height of the content.
+     * @since 1.2.0
+     */
+    protected double computeContentHeight(double width) {
+        Insets padding = borderPane.getPadding();
+        double contentWidth = width - padding.getLeft() - padding.getRight();
+        double contentHeight = padding.getTop() + padding.getBottom();
+
+        Node top = borderPane.getTop();
+        if (top != null) {
+            contentHeight += top == headerBox ? computeHeaderHeight(contentWidth) : top.prefHeight(contentWidth);
+        }
+
+        Node center = borderPane.getCenter();
+        if (center != null) {
+            Insets margin = Objects.requireNonNullElse(BorderPane.getMargin(center), Insets.EMPTY);
+            contentHeight += computeCenterHeight(contentWidth - margin.getLeft() - margin.getRight())
+                    + margin.getTop() + margin.getBottom();
         }
-        return css;
+
+        Node bottom = borderPane.getBottom();
+        if (bottom != null) contentHeight += bottom.prefHeight(contentWidth);
+        return contentHeight;
+    }
+
+    /**
+     * Computes the height of the center of the {@code borderPane}. Scrollable content is not enlarged, it keeps the
+     * height of the alert and scrolls.
+     *
+     * @param width The width of the center.
+     * @return The height of the center.
+     * @since 1.2.0
+     */
+    protected double computeCenterHeight(double width) {
+        Node center = borderPane.getCenter();
+        if (center == null) return 0;
+        if (center instanceof ScrollPane) return center.minHeight(width);
+        return center.prefHeight(width);
+    }
+
+    /**
+     * @return The height of the {@code headerBox} with the measured headlines.
+     */
+    private double computeHeaderHeight(double width) {
+        Insets padding = headerBox.getPadding();
+        double labelsWidth = width - padding.getLeft() - padding.getRight();
+        double imageHeight = 0;
+        if (alertImageView != null && headerBox.getChildren().contains(alertImageView)) {
+            labelsWidth -= alertImageView.getFitWidth() + headerBox.getSpacing();
+            imageHeight = alertImageView.getFitHeight();
+        }
+
+        double labelsHeight = 0;
+        for (Node child : headerLabelsVBox.getChildren()) {
+            if (labelsHeight > 0) labelsHeight += headerLabelsVBox.getSpacing();
+            labelsHeight += computeLabelHeight((Label) child, labelsWidth);
+        }
+        return Math.max(labelsHeight, imageHeight) + padding.getTop() + padding.getBottom();
+    }
+
+    /**
+     * Measures the height of a wrapping label with the {@link MTextMeasurer}.
+     *
+     * @param label The label.
+     * @param width The width of the label.
+     * @return The height of the label.
+     * @since 1.2.0
+     */
+    protected static double computeLabelHeight(Label label, double width) {
+        Insets insets = label.getInsets();
+        double textWidth = width - insets.getLeft() - insets.getRight();
+        return MTextMeasurer.measure(label.getText(), label.getFont(), textWidth).getHeight() + insets.getTop()
+                + insets.getBottom();
     }
 
     /**
@@ -311,9 +641,125 @@ public class MDialogWindow {
      * @since 1.1.0
      */
     public void show() {
+        if (disposed) throw new IllegalStateException("The alert is disposed");
+        // the metrics apply the CSS first, so the stylesheet time covers the real CSS pass and not the no-op pass
+        // of sizeToContent()
+        MAlertMetricsListener listener = metricsListener;
+        if (listener != null) prepareMetrics(listener);
+        if (!stage.isShowing()) sizeToContent();
         stage.show();
     }
 
+    /**
+     * Shows the alert and waits until it is hidden. On the JavaFX Application Thread, events are processed while
+     * waiting, like with {@code Stage.showAndWait()}. On any other thread, e.g. a virtual thread, the thread is
+     * blocked.
+     *
+     * @return The result of the alert.
+     * @since 1.2.0
+     */
+    public MAlertResult showAndWait() {
+        return showAndWait(null);
+    }
+
+    /**
+     * Shows the alert and waits until it is hidden or the timeout ends. After the timeout the alert is closed. If the
+     * alert is already shown with {@code showAsync()}, this call waits for the same result and the timeout replaces
+     * the timeout of this result.
+     *
+     * @param timeout The maximum time the alert is shown or null to wait without limit.
+     * @return The result of the alert.
+     * @since 1.2.0
+     */
+    public MAlertResult showAndWait(Duration timeout) {
+        if (!Platform.isFxApplicationThread()) return showAsync(timeout).join();
+        if (!Platform.canStartNestedEventLoop()) {
+            throw new IllegalStateException("showAndWait is not allowed during animation or layout processing");
+        }
+
+        CompletableFuture<MAlertResult> future = startResult(timeout);
+        if (!future.isDone()) {
+            NestedLoop loop = new NestedLoop();
+            nestedLoops.push(loop);
+            // the future can be completed on another thread, e.g. if a worker cancels the result of showAsync(), but
+            // the loop must be exited on the JavaFX Application Thread after it was entered
+            future.whenComplete((x, y) -> Platform.runLater(() -> {
+                loop.done = true;
+                exitDoneNestedLoop();
+            }));
+            Platform.enterNestedEventLoop(loop);
+            // an outer loop which was done while this loop was running is exited now
+            exitDoneNestedLoop();
+        }
+        return future.join();
+    }
+
+    /**
+     * Exits the innermost nested loop of {@code showAndWait()}, if its result is done. Nested loops can only be exited
+     * innermost first, so the loop of an outer alert which is closed first is exited when the inner loops returned.
+     */
+    private static void exitDoneNestedLoop() {
+        NestedLoop loop = nestedLoops.peek();
+        if (loop != null && loop.done) {
+            nestedLoops.pop();
+            Platform.exitNestedEventLoop(loop, null);
+        }
+    }
+
+    /**
+     * Shows the alert and returns its result, which is completed when the alert is hidden. Can be called from any
+     * thread. If the returned future is cancelled, the alert is closed. If the alert is already shown with
+     * {@code showAsync()}, the result of this call is returned.
+     *
+     * @return The result of the alert.
+     * @since 1.2.0
+     */
+    public CompletableFuture<MAlertResult> showAsync() {
+        return showAsync(null);
+    }
+
+    /**
+     * Shows the alert and returns its result, which is completed when the alert is hidden or the timeout ends. After
+     * the timeout the alert is closed. If the alert is already shown with {@code showAsync()} or
+     * {@code showAndWait()}, the pending result is returned and the timeout replaces the timeout of this result.
+     *
+     * @param timeout The maximum time the alert is shown or null to wait without limit.
+     * @return The result of the alert.
+     * @since 1.2.0
+     */
+    public CompletableFuture<MAlertResult> showAsync(Duration timeout) {
+        if (Platform.isFxApplicationThread()) return startResult(timeout);
+
+        CompletableFuture<MAlertResult> future = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            if (future.isDone()) return;
+
+            try {
+                CompletableFuture<MAlertResult> fxFuture = startResult(timeout);
+                fxFuture.whenComplete((alertResult, throwable) -> {
+                    if (throwable != null) future.completeExceptionally(throwable);
+                    else future.complete(alertResult);
+                });
+                future.whenComplete((x, y) -> {
+                    if (future.isCancelled()) fxFuture.cancel(false);
+                });
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns the text of the result of an input alert. Called when the alert is closed by a button.
+     *
+     * @return The entered text or null if the alert has no input.
+     * @since 1.2.0
+     */
+    protected String getResultText() {
+        return null;
+    }
+
     /**
      * Closes the Stage.
      *
@@ -323,10 +769,148 @@ public class MDialogWindow {
         getStage().close();
     }
 
+    /**
+     * Closes the alert and releases everything it holds: the button handlers, images, icons and stylesheets are
+     * removed and the alert is no longer switched by the {@link MAlertThemeManager}. Child classes release their own
+     * resources and call this method. A disposed alert can not be shown again.
+     *
+     * @since 1.2.0
+     */
+    public void dispose() {
+        if (disposed) return;
+
+        closeAlert();
+        for (Button button : buttonArrayList) button.setOnAction(null);
+        reset();
+        disposed = true;
+
+        borderPane.setTop(null);
+        borderPane.setBottom(null);
+        alertImageView = null;
+        headlineLabel = null;
+        secondHeadlineLabel = null;
+        headerLabelsVBox = null;
+        headerBox = null;
+        bottomBox = null;
+        stage.getIcons().clear();
+        stage.getScene().getStylesheets().clear();
+
+        MAlertThemeManager.unregister(this);
+        MAlertLeakTracker.track(this);
+    }
+
+    /**
+     * @return True if {@code dispose()} was called.
+     * @since 1.2.0
+     */
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    /**
+     * Installs the handlers which report the lifecycle events after {@code show()} and applies the stylesheet, to
+     * measure the time of the CSS processing.
+     */
+    private void prepareMetrics(MAlertMetricsListener listener) {
+        if (!metricsHandlersInstalled) {
+            metricsHandlersInstalled = true;
+            stage.addEventHandler(WindowEvent.WINDOW_SHOWN, x -> reportSinceShow(MAlertLifecycleEvent.SHOWN, -1));
+            stage.addEventHandler(WindowEvent.WINDOW_HIDDEN, x -> reportSinceShow(MAlertLifecycleEvent.CLOSED, -1));
+            for (Button button : buttonArrayList) button.addEventHandler(ActionEvent.ACTION, this::onButtonAction);
+        }
+
+        showNanos = System.nanoTime();
+        Scene scene = stage.getScene();
+        scene.getRoot().applyCss();
+        listener.onEvent(this, MAlertLifecycleEvent.STYLESHEET_APPLIED, System.nanoTime() - showNanos, -1);
+
+        scene.addPostLayoutPulseListener(new Runnable() {
+            private boolean reported;
+
+            @Override
+            public void run() {
+                if (reported) return;
+
+                reported = true;
+                reportSinceShow(MAlertLifecycleEvent.FIRST_LAYOUT, -1);
+                // the pulse listeners must not be changed while they are called
+                Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+            }
+        });
+    }
+
+    /**
+     * Creates the result of the next {@code showAsync()} or {@code showAndWait()} call and shows the alert, if no
+     * result is pending. A timeout replaces the timeout of a pending result.
+     */
+    private CompletableFuture<MAlertResult> startResult(Duration timeout) {
+        if (result != null && !result.isDone()) {
+            if (timeout != null) startResultTimeout(result, timeout);
+            return result;
+        }
+
+        CompletableFuture<MAlertResult> future = new CompletableFuture<>();
+        future.whenComplete((x, y) -> {
+            if (future.isCancelled()) {
+                if (Platform.isFxApplicationThread()) closeAlert();
+                else Platform.runLater(this::closeAlert);
+            }
+        });
+        result = future;
+        pressedButton = null;
+
+        if (timeout != null) startResultTimeout(future, timeout);
+        try {
+            show();
+        } catch (RuntimeException e) {
+            if (resultTimeout != null) resultTimeout.stop();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void startResultTimeout(CompletableFuture<MAlertResult> future, Duration timeout) {
+        if (resultTimeout != null) resultTimeout.stop();
+        resultTimeout = new PauseTransition(javafx.util.Duration.millis(timeout.toMillis()));
+        resultTimeout.setOnFinished(x -> {
+            future.complete(MAlertResult.timeout());
+            closeAlert();
+        });
+        resultTimeout.play();
+    }
+
+    private void onHidden() {
+        MAlertLeakTracker.track(this);
+        if (resultTimeout != null) {
+            resultTimeout.stop();
+            resultTimeout = null;
+        }
+        if (result != null && !result.isDone()) {
+            int buttonIndex = pressedButton != null ? buttonArrayList.indexOf(pressedButton) : -1;
+            result.complete(buttonIndex >= 0
+                    ? MAlertResult.button(buttonIndex, pressedButton.getText(), getResultText())
+                    : MAlertResult.closed());
+        }
+        pressedButton = null;
+    }
+
+    private void onButtonAction(ActionEvent event) {
+        reportSinceShow(MAlertLifecycleEvent.BUTTON_PRESSED, buttonArrayList.indexOf((Button) event.getSource()));
+    }
+
+    private void reportSinceShow(MAlertLifecycleEvent event, int buttonIndex) {
+        MAlertMetricsListener listener = metricsListener;
+        if (listener != null) listener.onEvent(this, event, System.nanoTime() - showNanos, buttonIndex);
+    }
+
     public enum AlertStyle {
         LIGHT_CLASSIC,
         LIGHT_ROUNDED,
         DARK_CLASSIC,
         DARK_ROUNDED
     }
+
+    private static class NestedLoop {
+        private boolean done;
+    }
 }
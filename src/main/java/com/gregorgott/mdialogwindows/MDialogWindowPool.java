@@ -0,0 +1,160 @@
+package com.gregorgott.mdialogwindows;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A {@code MDialogWindowPool} keeps closed alerts of one alert class and reuses them, so the {@code Stage}, the
+ * {@code Scene} and the nodes of an alert are only created once. Alerts are taken from the pool with
+ * {@code acquire()} and given back with {@code release()}, which closes and resets the alert.
+ *
+ * <pre>
+ *     MDialogWindowPool&lt;MAlert&gt; errorAlerts = MDialogWindowPool.of("error-alerts", MAlert.class,
+ *             () -> new MAlert(MAlert.MAlertType.ERROR, "Error", mainStage), 4);
+ *
+ *     MAlert alert = errorAlerts.acquire();
+ *     alert.setHeadline("Connection lost");
+ *     alert.addButton("OK", x -> errorAlerts.release(alert), true);
+ *     alert.show();
+ * </pre>
+ *
+ * <p> A released alert gets back the title and size of its constructor and the theme of the
+ * {@link MAlertThemeManager}, its content is removed. Changes made directly on the {@code Stage}, e.g. a custom
+ * icon or stylesheet, survive the release and are seen by the next caller of {@code acquire()}.
+ *
+ * <p> Because the owner and the modality of a {@code Stage} can not be changed, all alerts of a pool are created by
+ * the same factory. The pool must only be used on the JavaFX Application Thread.
+ *
+ * @param <T> The alert class.
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public class MDialogWindowPool<T extends MDialogWindow> {
+    private static final Map<String, SharedPool> pools = new ConcurrentHashMap<>();
+
+    private final Supplier<T> factory;
+    private final ArrayDeque<T> idleAlerts;
+    private int maxSize;
+
+    /**
+     * Creates a pool which keeps up to {@code maxSize} idle alerts.
+     *
+     * @param factory Creates a new alert if the pool is empty.
+     * @param maxSize The maximum number of idle alerts (0 or +).
+     * @since 1.2.0
+     */
+    public MDialogWindowPool(Supplier<T> factory, int maxSize) {
+        this.factory = Objects.requireNonNull(factory);
+        idleAlerts = new ArrayDeque<>();
+        setMaxSize(maxSize);
+    }
+
+    /**
+     * Returns the shared pool with the name. The pool is created with the {@code factory} and {@code maxSize} when it
+     * is requested the first time, later calls return the existing pool. Because the factory defines the alerts of a
+     * pool, e.g. their {@code MAlertType} and owner, pools of different factories need different names.
+     *
+     * @param name       The name of the pool.
+     * @param alertClass The alert class.
+     * @param factory    Creates a new alert if the pool is empty.
+     * @param maxSize    The maximum number of idle alerts (0 or +).
+     * @param <T>        The alert class.
+     * @return The pool with the name.
+     * @throws IllegalArgumentException If the pool with the name has another alert class or maximum size.
+     * @since 1.2.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends MDialogWindow> MDialogWindowPool<T> of(String name, Class<T> alertClass,
+                                                                   Supplier<T> factory, int maxSize) {
+        Objects.requireNonNull(alertClass);
+        SharedPool sharedPool = pools.computeIfAbsent(Objects.requireNonNull(name),
+                x -> new SharedPool(alertClass, new MDialogWindowPool<>(factory, maxSize)));
+        if (sharedPool.alertClass() != alertClass) {
+            throw new IllegalArgumentException("The pool " + name + " keeps alerts of another class: "
+                    + sharedPool.alertClass().getName());
+        }
+        if (sharedPool.pool().getMaxSize() != maxSize) {
+            throw new IllegalArgumentException("The pool " + name + " has another maximum size: "
+                    + sharedPool.pool().getMaxSize());
+        }
+        return (MDialogWindowPool<T>) sharedPool.pool();
+    }
+
+    /**
+     * Returns an idle alert or creates a new one if the pool is empty.
+     *
+     * @return The alert.
+     * @since 1.2.0
+     */
+    public T acquire() {
+        T alert = idleAlerts.pollFirst();
+        return alert != null ? alert : factory.get();
+    }
+
+    /**
+     * Closes and resets the alert and keeps it for the next {@code acquire()} call. If the pool is full or the alert is
+     * disposed, the alert is disposed and not kept.
+     *
+     * @param alert The alert, which must not be used after this call.
+     * @return True if the alert was added to the pool.
+     * @since 1.2.0
+     */
+    public boolean release(T alert) {
+        Objects.requireNonNull(alert);
+        if (idleAlerts.contains(alert)) return false;
+        if (alert.isDisposed() || idleAlerts.size() >= maxSize) {
+            alert.dispose();
+            return false;
+        }
+
+        alert.closeAlert();
+        alert.reset();
+        idleAlerts.addFirst(alert);
+        return true;
+    }
+
+    /**
+     * @return The number of idle alerts.
+     * @since 1.2.0
+     */
+    public int getSize() {
+        return idleAlerts.size();
+    }
+
+    /**
+     * @return The maximum number of idle alerts.
+     * @since 1.2.0
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum number of idle alerts. Idle alerts above the new maximum are removed and disposed.
+     *
+     * @param maxSize The maximum number of idle alerts (0 or +).
+     * @since 1.2.0
+     */
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 0) throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+
+        this.maxSize = maxSize;
+        while (idleAlerts.size() > maxSize) idleAlerts.pollLast().dispose();
+    }
+
+    /**
+     * Removes and disposes all idle alerts.
+     *
+     * @since 1.2.0
+     */
+    public void clear() {
+        while (!idleAlerts.isEmpty()) idleAlerts.pollFirst().dispose();
+    }
+
+    private record SharedPool(Class<?> alertClass, MDialogWindowPool<?> pool) {
+    }
+}
@@ -0,0 +1,270 @@
+package com.gregorgott.mdialogwindows;
+
+import javafx.geometry.HPos;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.Control;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Priority;
+import javafx.stage.Window;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The {@code MFormAlert} collects several values in one alert. The form is described by a list of
+ * {@link MFormField}s and all controls are created at once. When the form is submitted, all fields are validated
+ * together and the values are mapped to a result, e.g. a record:
+ *
+ * <pre>
+ *     record Server(String host, Double port, Boolean tls) {}
+ *
+ *     MFormField&lt;String&gt; host = MFormField.text("Host").required();
+ *     MFormField&lt;Double&gt; port = MFormField.number("Port").withRange(1, 65535).withDefault(443.0);
+ *     MFormField&lt;Boolean&gt; tls = MFormField.checkbox("Use TLS").withDefault(true);
+ *
+ *     MFormAlert&lt;Server&gt; formAlert = new MFormAlert&lt;&gt;("Server", mainStage, List.of(host, port, tls),
+ *             form -> new Server(form.get(host), form.get(port), form.get(tls)));
+ *     formAlert.addButton("Cancel", x -> formAlert.closeAlert(), false);
+ *     formAlert.addSubmitButton("Connect");
+ *     formAlert.setOnSubmit(server -> connect(server));
+ *     formAlert.show();
+ * </pre>
+ *
+ * @param <R> The type of the result.
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public class MFormAlert<R> extends MDialogWindow {
+    private final List<MFormField<?>> fields;
+    private final Function<MFormValues, ? extends R> resultMapper;
+    private final Map<MFormField<?>, Control> controls;
+    private final Map<MFormField<?>, Label> errorLabels;
+    private final GridPane gridPane;
+    private final ScrollPane scrollPane;
+    private Consumer<? super R> onSubmit;
+    private R result;
+
+    /**
+     * Creates a {@code MFormAlert} without title and owner.
+     *
+     * @param fields       The fields of the form, in the shown order.
+     * @param resultMapper Maps the submitted values to the result.
+     * @since 1.2.0
+     */
+    public MFormAlert(List<? extends MFormField<?>> fields, Function<MFormValues, ? extends R> resultMapper) {
+        this(null, null, fields, resultMapper);
+    }
+
+    /**
+     * Creates a {@code MFormAlert} with a title, but without owner.
+     *
+     * @param title        The title.
+     * @param fields       The fields of the form, in the shown order.
+     * @param resultMapper Maps the submitted values to the result.
+     * @since 1.2.0
+     */
+    public MFormAlert(String title, List<? extends MFormField<?>> fields,
+                      Function<MFormValues, ? extends R> resultMapper) {
+        this(title, null, fields, resultMapper);
+    }
+
+    /**
+     * Creates a {@code MFormAlert} with a title and owner.
+     *
+     * @param title        The title.
+     * @param root         The owner window.
+     * @param fields       The fields of the form, in the shown order.
+     * @param resultMapper Maps the submitted values to the result.
+     * @since 1.2.0
+     */
+    public MFormAlert(String title, Window root, List<? extends MFormField<?>> fields,
+                      Function<MFormValues, ? extends R> resultMapper) {
+        super(0, 0, title, root);
+
+        this.fields = List.copyOf(fields);
+        this.resultMapper = Objects.requireNonNull(resultMapper);
+        controls = new IdentityHashMap<>();
+        errorLabels = new IdentityHashMap<>();
+
+        ColumnConstraints labelColumn = new ColumnConstraints();
+        labelColumn.setHalignment(HPos.RIGHT);
+        ColumnConstraints controlColumn = new ColumnConstraints();
+        controlColumn.setHgrow(Priority.ALWAYS);
+        controlColumn.setMinWidth(200);
+
+        gridPane = new GridPane();
+        gridPane.setHgap(10);
+        gridPane.setVgap(5);
+        gridPane.getColumnConstraints().addAll(labelColumn, controlColumn);
+        buildForm();
+
+        scrollPane = new ScrollPane(gridPane);
+        scrollPane.setFitToWidth(true);
+        scrollPane.setPadding(new Insets(10, 0, 10, 0));
+
+        setButtonSpacing(10);
+        getBorderPane().setCenter(scrollPane);
+    }
+
+    /**
+     * @return The fields of the form.
+     * @since 1.2.0
+     */
+    public List<MFormField<?>> getFields() {
+        return fields;
+    }
+
+    /**
+     * @param field The field.
+     * @return The control of the field, e.g. to set a prompt text.
+     * @since 1.2.0
+     */
+    public Control getControl(MFormField<?> field) {
+        Control control = controls.get(field);
+        if (control == null) {
+            throw new IllegalArgumentException("The field " + field.getLabel() + " is not part of the form");
+        }
+        return control;
+    }
+
+    /**
+     * Adds a default button which submits the form.
+     *
+     * @param text The button text.
+     * @since 1.2.0
+     */
+    public void addSubmitButton(String text) {
+        addButton(text, x -> submit(), true);
+    }
+
+    /**
+     * Sets the action called with the result after the form was submitted.
+     *
+     * @param onSubmit The action or null.
+     * @since 1.2.0
+     */
+    public void setOnSubmit(Consumer<? super R> onSubmit) {
+        this.onSubmit = onSubmit;
+    }
+
+    /**
+     * @return The result of the last submit or null if the form was not submitted.
+     * @since 1.2.0
+     */
+    public R getResult() {
+        return result;
+    }
+
+    /**
+     * Validates all fields. If all fields are valid, the result is created, the action set with {@code setOnSubmit()}
+     * is called and the alert is closed. Otherwise the messages of all invalid fields are shown and the first invalid
+     * field is focused.
+     *
+     * @return True if the form was submitted.
+     * @since 1.2.0
+     */
+    public boolean submit() {
+        Map<MFormField<?>, Object> values = new IdentityHashMap<>();
+        Control firstInvalidControl = null;
+        for (MFormField<?> field : fields) {
+            Control control = controls.get(field);
+            String message = field.validate(control);
+            showError(errorLabels.get(field), message);
+
+            if (message == null) values.put(field, field.readValue(control));
+            else if (firstInvalidControl == null) firstInvalidControl = control;
+        }
+        if (firstInvalidControl != null) {
+            firstInvalidControl.requestFocus();
+            return false;
+        }
+
+        result = resultMapper.apply(new MFormValues(values));
+        if (onSubmit != null) onSubmit.accept(result);
+        closeAlert();
+        return true;
+    }
+
+    /**
+     * Computes the height of the form, so all fields are visible without scrolling. Only forms higher than the screen
+     * scroll.
+     *
+     * @param width The width of the center.
+     * @return The height of the form.
+     * @since 1.2.0
+     */
+    @Override
+    protected double computeCenterHeight(double width) {
+        if (getBorderPane().getCenter() != scrollPane) return super.computeCenterHeight(width);
+
+        Insets insets = scrollPane.getInsets();
+        double gridWidth = width - insets.getLeft() - insets.getRight();
+        return gridPane.prefHeight(gridWidth) + insets.getTop() + insets.getBottom();
+    }
+
+    /**
+     * Resets the alert, removes the result and sets all fields to their default values.
+     *
+     * @since 1.2.0
+     */
+    @Override
+    protected void reset() {
+        super.reset();
+        result = null;
+        onSubmit = null;
+        buildForm();
+        scrollPane.setVvalue(0);
+        getBorderPane().setCenter(scrollPane);
+    }
+
+    /**
+     * Creates the controls of all fields and adds them to the {@code gridPane} in one call, so the layout is only
+     * calculated once.
+     */
+    private void buildForm() {
+        controls.clear();
+        errorLabels.clear();
+
+        List<Node> nodes = new ArrayList<>(fields.size() * 3);
+        for (int i = 0; i < fields.size(); i++) {
+            MFormField<?> field = fields.get(i);
+            Control control = field.createControl();
+            GridPane.setConstraints(control, 1, i * 2);
+            if (!field.hasOwnLabel()) {
+                Label label = new Label(field.getLabel());
+                label.setLabelFor(control);
+                GridPane.setConstraints(label, 0, i * 2);
+                nodes.add(label);
+            }
+            nodes.add(control);
+
+            // the error label is only part of the layout if it shows a message
+            Label errorLabel = new Label();
+            errorLabel.setId("validation-label");
+            errorLabel.setWrapText(true);
+            showError(errorLabel, null);
+            GridPane.setConstraints(errorLabel, 1, i * 2 + 1);
+            nodes.add(errorLabel);
+
+            controls.put(field, control);
+            errorLabels.put(field, errorLabel);
+        }
+        gridPane.getChildren().setAll(nodes);
+    }
+
+    private static void showError(Label errorLabel, String message) {
+        errorLabel.setText(message);
+        errorLabel.setVisible(message != null);
+        errorLabel.setManaged(message != null);
+    }
+}
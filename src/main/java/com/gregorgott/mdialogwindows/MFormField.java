@@ -0,0 +1,248 @@
+package com.gregorgott.mdialogwindows;
+
+import javafx.collections.FXCollections;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.Control;
+import javafx.scene.control.TextField;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * A {@code MFormField} describes one input of a {@link MFormAlert}: a text, a number, a choice or a checkbox. A field
+ * is immutable, every {@code with} method returns a new field:
+ *
+ * <pre>
+ *     MFormField&lt;String&gt; host = MFormField.text("Host").required();
+ *     MFormField&lt;Double&gt; port = MFormField.number("Port").withRange(1, 65535).withDefault(443.0);
+ *     MFormField&lt;Boolean&gt; tls = MFormField.checkbox("Use TLS").withDefault(true);
+ * </pre>
+ *
+ * <p> The values of a submitted form are read with the same field instances, which were given to the form.
+ *
+ * @param <T> The type of the value.
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public final class MFormField<T> {
+    // a plain decimal number, Double.parseDouble() would also accept e.g. "1d", "1e3" or "0x1p3"
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("[+-]?(\\d+(\\.\\d*)?|\\.\\d+)");
+
+    private final Kind kind;
+    private final String label;
+    private final T defaultValue;
+    private final boolean required;
+    private final List<T> choices;
+    private final Function<? super T, String> validator;
+    private final double min;
+    private final double max;
+
+    private MFormField(Kind kind, String label, T defaultValue, boolean required, List<T> choices,
+                       Function<? super T, String> validator, double min, double max) {
+        this.kind = kind;
+        this.label = label;
+        this.defaultValue = defaultValue;
+        this.required = required;
+        this.choices = choices;
+        this.validator = validator;
+        this.min = min;
+        this.max = max;
+    }
+
+    private MFormField(Kind kind, String label, List<T> choices) {
+        this(kind, Objects.requireNonNull(label), null, false, choices, null, Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * @param label The label shown beside the field.
+     * @return A field with a {@code TextField}.
+     * @since 1.2.0
+     */
+    public static MFormField<String> text(String label) {
+        return new MFormField<>(Kind.TEXT, label, List.of());
+    }
+
+    /**
+     * @param label The label shown beside the field.
+     * @return A field with a {@code TextField} which only accepts numbers. An empty field has the value null.
+     * @since 1.2.0
+     */
+    public static MFormField<Double> number(String label) {
+        return new MFormField<>(Kind.NUMBER, label, List.of());
+    }
+
+    /**
+     * @param label   The label shown beside the field.
+     * @param choices The choices.
+     * @param <T>     The type of the choices.
+     * @return A field with a {@code ChoiceBox}. Without a selected choice the field has the value null.
+     * @since 1.2.0
+     */
+    public static <T> MFormField<T> choice(String label, List<T> choices) {
+        return new MFormField<>(Kind.CHOICE, label, List.copyOf(choices));
+    }
+
+    /**
+     * @param label The label of the checkbox.
+     * @return A field with a {@code CheckBox}.
+     * @since 1.2.0
+     */
+    public static MFormField<Boolean> checkbox(String label) {
+        return new MFormField<>(Kind.CHECKBOX, label, List.of());
+    }
+
+    /**
+     * @param defaultValue The value shown when the form is created.
+     * @return A copy of this field with the default value.
+     * @since 1.2.0
+     */
+    public MFormField<T> withDefault(T defaultValue) {
+        return new MFormField<>(kind, label, defaultValue, required, choices, validator, min, max);
+    }
+
+    /**
+     * A required text or number field must not be empty, a required choice must be selected and a required checkbox
+     * must be checked.
+     *
+     * @return A copy of this field, which is required.
+     * @since 1.2.0
+     */
+    public MFormField<T> required() {
+        return new MFormField<>(kind, label, defaultValue, true, choices, validator, min, max);
+    }
+
+    /**
+     * @param min The smallest valid number.
+     * @param max The biggest valid number.
+     * @return A copy of this number field, which only accepts numbers in the range.
+     * @since 1.2.0
+     */
+    public MFormField<T> withRange(double min, double max) {
+        if (kind != Kind.NUMBER) throw new IllegalStateException("Only number fields have a range");
+        if (min > max) throw new IllegalArgumentException("min must not be greater than max: " + min + " > " + max);
+        return new MFormField<>(kind, label, defaultValue, required, choices, validator, min, max);
+    }
+
+    /**
+     * Adds a check of the value, which is called after the checks of the field.
+     *
+     * @param validator Returns the message shown to the user if the value is invalid, or null if the value is valid.
+     * @return A copy of this field with the validator.
+     * @since 1.2.0
+     */
+    public MFormField<T> withValidator(Function<? super T, String> validator) {
+        return new MFormField<>(kind, label, defaultValue, required, choices, Objects.requireNonNull(validator), min,
+                max);
+    }
+
+    /**
+     * @return The label shown beside the field.
+     * @since 1.2.0
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @return True if the field must be filled.
+     * @since 1.2.0
+     */
+    public boolean isRequired() {
+        return required;
+    }
+
+    /**
+     * @return True if the label is part of the control and not shown beside it.
+     */
+    boolean hasOwnLabel() {
+        return kind == Kind.CHECKBOX;
+    }
+
+    Control createControl() {
+        return switch (kind) {
+            case TEXT, NUMBER -> {
+                TextField textField = new TextField(defaultValue != null ? formatValue(defaultValue) : null);
+                textField.setMinWidth(150);
+                yield textField;
+            }
+            case CHOICE -> {
+                ChoiceBox<T> choiceBox = new ChoiceBox<>(FXCollections.observableList(choices));
+                choiceBox.setValue(defaultValue);
+                choiceBox.setMaxWidth(Double.MAX_VALUE);
+                yield choiceBox;
+            }
+            case CHECKBOX -> {
+                CheckBox checkBox = new CheckBox(label);
+                checkBox.setSelected(Boolean.TRUE.equals(defaultValue));
+                yield checkBox;
+            }
+        };
+    }
+
+    /**
+     * @param control The control created by {@code createControl()}.
+     * @return The message shown to the user if the value is invalid, or null if the value is valid.
+     */
+    String validate(Control control) {
+        if (kind == Kind.NUMBER) {
+            String text = ((TextField) control).getText();
+            if (text != null && !text.isBlank()) {
+                if (!NUMBER_PATTERN.matcher(text.strip()).matches()) return "Please enter a number.";
+                double number = Double.parseDouble(text.strip());
+                // too many digits are parsed as infinity
+                if (!Double.isFinite(number)) return "Please enter a number.";
+                if (number < min || number > max) {
+                    return "Please enter a number between " + formatValue(min) + " and " + formatValue(max) + ".";
+                }
+            }
+        }
+
+        T value = readValue(control);
+        if (required) {
+            boolean empty = switch (kind) {
+                case TEXT -> ((String) value).isBlank();
+                case CHECKBOX -> !((Boolean) value);
+                case NUMBER, CHOICE -> value == null;
+            };
+            if (empty) return kind == Kind.CHECKBOX ? "Please check this field." : "Please fill in this field.";
+        }
+        return validator != null ? validator.apply(value) : null;
+    }
+
+    /**
+     * @param control The control created by {@code createControl()}.
+     * @return The value of the control, which must be valid.
+     */
+    @SuppressWarnings("unchecked")
+    T readValue(Control control) {
+        return switch (kind) {
+            case TEXT -> (T) Objects.requireNonNullElse(((TextField) control).getText(), "");
+            case NUMBER -> {
+                String text = ((TextField) control).getText();
+                yield text == null || text.isBlank() ? null : (T) Double.valueOf(text.strip());
+            }
+            case CHOICE -> ((ChoiceBox<T>) control).getValue();
+            case CHECKBOX -> (T) Boolean.valueOf(((CheckBox) control).isSelected());
+        };
+    }
+
+    private static String formatValue(Object value) {
+        // whole numbers are shown without a decimal point
+        if (value instanceof Double number && number == Math.rint(number) && !Double.isInfinite(number)) {
+            return Long.toString(number.longValue());
+        }
+        return String.valueOf(value);
+    }
+
+    private enum Kind {
+        TEXT,
+        NUMBER,
+        CHOICE,
+        CHECKBOX
+    }
+}
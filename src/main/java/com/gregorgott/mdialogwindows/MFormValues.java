@@ -0,0 +1,38 @@
+package com.gregorgott.mdialogwindows;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The submitted values of a {@link MFormAlert}. The values are read with the fields given to the form:
+ *
+ * <pre>
+ *     form -> new Server(form.get(host), form.get(port), form.get(tls))
+ * </pre>
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public final class MFormValues {
+    private final Map<MFormField<?>, Object> values;
+
+    MFormValues(Map<MFormField<?>, Object> values) {
+        this.values = new IdentityHashMap<>(values);
+    }
+
+    /**
+     * @param field The field of the form.
+     * @param <T>   The type of the value.
+     * @return The submitted value of the field.
+     * @throws IllegalArgumentException If the field is not part of the form.
+     * @since 1.2.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(MFormField<T> field) {
+        if (!values.containsKey(field)) {
+            throw new IllegalArgumentException("The field " + field.getLabel() + " is not part of the form");
+        }
+        return (T) values.get(field);
+    }
+}
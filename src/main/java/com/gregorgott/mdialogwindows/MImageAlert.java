@@ -1,13 +1,21 @@
 package com.gregorgott.mdialogwindows;
 
+import javafx.beans.binding.Bindings;
+import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
 import javafx.stage.Window;
+import javafx.stage.WindowEvent;
 
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The {@code MImageAlert} shows an alert without any text, but only one image in the center. The alert tries to show
@@ -24,14 +32,34 @@ import java.util.Objects;
  *     imageAlert.show();
  * </pre>
  *
+ * <p> Large images should be passed as path or URL with a requested size. Then the image is decoded in the background
+ * at the requested size, instead of keeping the full resolution in memory, and a placeholder is shown while the image
+ * is decoded. The image is decoded when the alert is shown and dropped when it is hidden, so only shown alerts hold
+ * decoded pixels. The decoded pixels of all shown image alerts can be limited with {@code setDecodedPixelBudget()}:
+ *
+ * <pre>
+ *     MImageAlert.setDecodedPixelBudget(8_000_000);
+ *     MImageAlert imageAlert = new MImageAlert(Path.of("screenshot.png"), 800, 600, "Screenshot", mainStage);
+ *     imageAlert.show();
+ * </pre>
+ *
  * @author GregorGott
  * @version 1.1.0
  * @since 2022-10-16 (YYYY-MM-DD)
  */
 public class MImageAlert extends MDialogWindow {
+    private static final AtomicLong decodedPixels = new AtomicLong();
+    private static volatile long decodedPixelBudget = Long.MAX_VALUE;
+
     private final Scene scene;
     private final ImageView imageView;
+    private final ProgressIndicator placeholder;
+    private final StackPane imagePane;
     private Image image;
+    private String url;
+    private int requestedWidth;
+    private int requestedHeight;
+    private long reservedPixels;
 
     /**
      * Creates a {@code MImageAlert} with an image, but without a title and window owner.
@@ -63,35 +91,129 @@ public class MImageAlert extends MDialogWindow {
      * @since 1.0.0
      */
     public MImageAlert(Image image, String title, Window root) {
+        this(title, root);
+
+        setAlertImage(Objects.requireNonNull(image));
+    }
+
+    /**
+     * Creates a {@code MImageAlert} which decodes the image of the URL in the background, but without a title and
+     * window owner.
+     *
+     * @param url             The URL of the image.
+     * @param requestedWidth  The maximum width of the decoded image (1 or +).
+     * @param requestedHeight The maximum height of the decoded image (1 or +).
+     * @since 1.2.0
+     */
+    public MImageAlert(String url, int requestedWidth, int requestedHeight) {
+        this(url, requestedWidth, requestedHeight, null, null);
+    }
+
+    /**
+     * Creates a {@code MImageAlert} which decodes the image of the URL in the background, but without a window owner.
+     *
+     * @param url             The URL of the image.
+     * @param requestedWidth  The maximum width of the decoded image (1 or +).
+     * @param requestedHeight The maximum height of the decoded image (1 or +).
+     * @param title           The title.
+     * @since 1.2.0
+     */
+    public MImageAlert(String url, int requestedWidth, int requestedHeight, String title) {
+        this(url, requestedWidth, requestedHeight, title, null);
+    }
+
+    /**
+     * Creates a {@code MImageAlert} which decodes the image of the URL in the background when it is shown. The image is
+     * decoded at the requested size (the aspect ratio is preserved) or smaller, if the decoded pixel budget does not
+     * allow it. A smaller image is not stretched to the requested size.
+     *
+     * @param url             The URL of the image.
+     * @param requestedWidth  The maximum width of the decoded image (1 or +).
+     * @param requestedHeight The maximum height of the decoded image (1 or +).
+     * @param title           The title.
+     * @param root            The window owner.
+     * @since 1.2.0
+     */
+    public MImageAlert(String url, int requestedWidth, int requestedHeight, String title, Window root) {
+        this(title, root);
+
+        if (requestedWidth < 1 || requestedHeight < 1) {
+            throw new IllegalArgumentException("The requested size must be greater than zero: " + requestedWidth
+                    + "x" + requestedHeight);
+        }
+        this.url = Objects.requireNonNull(url);
+        this.requestedWidth = requestedWidth;
+        this.requestedHeight = requestedHeight;
+
+        imageView.setPreserveRatio(true);
+        setImageSize(requestedWidth, requestedHeight);
+        imagePane.setPrefSize(requestedWidth, requestedHeight);
+    }
+
+    /**
+     * Creates a {@code MImageAlert} which decodes the image file in the background.
+     *
+     * @param path            The path of the image file.
+     * @param requestedWidth  The maximum width of the decoded image (1 or +).
+     * @param requestedHeight The maximum height of the decoded image (1 or +).
+     * @param title           The title.
+     * @param root            The window owner.
+     * @since 1.2.0
+     */
+    public MImageAlert(Path path, int requestedWidth, int requestedHeight, String title, Window root) {
+        this(path.toUri().toString(), requestedWidth, requestedHeight, title, root);
+    }
+
+    private MImageAlert(String title, Window root) {
         super(0, 0, title, root);
-        Objects.requireNonNull(image);
 
         setButtonSpacing(0);
 
         imageView = new ImageView();
-        setAlertImage(image);
+        placeholder = new ProgressIndicator();
+        placeholder.setVisible(false);
+        imagePane = new StackPane(imageView, placeholder);
 
         BorderPane borderPane = new BorderPane();
-        borderPane.setCenter(imageView);
-        borderPane.setBottom(getBorderPane().getBottom());
+        borderPane.setCenter(imagePane);
+        borderPane.setBottom(getButtonBox());
 
         scene = new Scene(borderPane);
-        scene.getStylesheets().add(getStylesheet(getMAlertStyle()));
+        scene.getStylesheets().add(getStylesheet(getTheme()));
         getStage().setScene(scene);
+        getStage().addEventHandler(WindowEvent.WINDOW_HIDDEN, x -> releaseDecodedImage());
     }
 
     /**
-     * Sets the {@code MAlertStyle} which defines the used stylesheet.
+     * Limits the pixels of all images decoded by shown image alerts created with a path or URL. If a new image alert
+     * exceeds the budget, its image is decoded smaller. If the budget is spent, the alert can not be shown.
      *
-     * @param mAlertStyle The {@code MAlertStyle}.
-     * @since 1.0.0
+     * @param pixels The maximum number of decoded pixels (1 or +).
+     * @since 1.2.0
+     */
+    public static void setDecodedPixelBudget(long pixels) {
+        if (pixels < 1) throw new IllegalArgumentException("pixels must be greater than zero: " + pixels);
+        decodedPixelBudget = pixels;
+    }
+
+    /**
+     * @return The maximum number of decoded pixels of all shown image alerts.
+     * @since 1.2.0
      */
-    public void setMAlertStyle(MAlertStyle mAlertStyle) {
-        scene.getStylesheets().add(getStylesheet(mAlertStyle));
+    public static long getDecodedPixelBudget() {
+        return decodedPixelBudget;
     }
 
     /**
-     * @return The image shown in the alert.
+     * @return The number of decoded pixels of all shown image alerts created with a path or URL.
+     * @since 1.2.0
+     */
+    public static long getDecodedPixels() {
+        return decodedPixels.get();
+    }
+
+    /**
+     * @return The image shown in the alert. An image decoded from a path or URL is null while the alert is hidden.
      * @since 1.0.0
      */
     public Image getAlertImage() {
@@ -99,14 +221,29 @@ public class MImageAlert extends MDialogWindow {
     }
 
     /**
-     * Sets the alert image shown in the center.
+     * Sets the alert image shown in the center. The image replaces an image decoded from a path or URL.
      *
      * @param image The image in the alert.
      * @since 1.0.0
      */
     public void setAlertImage(Image image) {
+        releaseDecodedImage();
+        url = null;
+        showImage(image);
+    }
+
+    private void showImage(Image image) {
         this.image = image;
         imageView.setImage(image);
+
+        // the placeholder is shown while an image is loaded in the background
+        placeholder.visibleProperty().unbind();
+        if (image != null) {
+            placeholder.visibleProperty().bind(Bindings.and(image.progressProperty().lessThan(1),
+                    image.errorProperty().not()));
+        } else {
+            placeholder.setVisible(false);
+        }
     }
 
     /**
@@ -124,26 +261,144 @@ public class MImageAlert extends MDialogWindow {
     }
 
     /**
-     * Changes the stylesheet from the Scene by getting the {@code MAlertStyle}.
+     * Computes the width of the image or of the buttons, if they are wider.
      *
-     * @since 1.0.0
+     * @return The width of the content or 0 if the size of the image is not known yet.
+     * @since 1.2.0
      */
-    public String getStylesheet(MAlertStyle mAlertStyle) {
-        String css = null;
-        switch (mAlertStyle) {
-            case LIGHT_CLASSIC, LIGHT_ROUNDED -> css = Objects.requireNonNull(getClass().getResource(
-                    "stylesheets/stylesheet-image-alert-light.css")).toExternalForm();
-            case DARK_CLASSIC, DARK_ROUNDED -> css = Objects.requireNonNull(getClass().getResource(
-                    "stylesheets/stylesheet-image-alert-dark.css")).toExternalForm();
-        }
-        return css;
+    @Override
+    protected double computeContentWidth() {
+        if (!isImageSizeKnown()) return 0;
+
+        Insets insets = ((Region) scene.getRoot()).getInsets();
+        return Math.max(imagePane.prefWidth(-1), getButtonBox().prefWidth(-1)) + insets.getLeft() + insets.getRight();
+    }
+
+    /**
+     * Computes the height of the image and the buttons.
+     *
+     * @param width The width of the alert.
+     * @return The height of the content or 0 if the size of the image is not known yet.
+     * @since 1.2.0
+     */
+    @Override
+    protected double computeContentHeight(double width) {
+        if (!isImageSizeKnown()) return 0;
+
+        Insets insets = ((Region) scene.getRoot()).getInsets();
+        double contentWidth = width - insets.getLeft() - insets.getRight();
+        return imagePane.prefHeight(contentWidth) + getButtonBox().prefHeight(contentWidth) + insets.getTop()
+                + insets.getBottom();
+    }
+
+    /**
+     * @return True if the size of the image is given by the requested or fit size or by the loaded image.
+     */
+    private boolean isImageSizeKnown() {
+        if (imagePane.getPrefWidth() > 0 && imagePane.getPrefHeight() > 0) return true;
+        if (imageView.getFitWidth() > 0 && imageView.getFitHeight() > 0) return true;
+        return image != null && image.getProgress() >= 1;
+    }
+
+    /**
+     * Returns the image alert stylesheet of the {@code MAlertTheme}.
+     *
+     * @param theme The {@code MAlertTheme}.
+     * @return The stylesheet URL.
+     * @since 1.2.0
+     */
+    @Override
+    protected String getStylesheet(MAlertTheme theme) {
+        return theme.getImageAlertStylesheet();
+    }
+
+    /**
+     * Resets the alert, removes the image and releases the pixels of a decoded image in the decoded pixel budget.
+     *
+     * @since 1.2.0
+     */
+    @Override
+    protected void reset() {
+        super.reset();
+        setAlertImage(null);
+    }
+
+    /**
+     * Disposes the alert and releases the pixels of a decoded image in the decoded pixel budget.
+     *
+     * @since 1.2.0
+     */
+    @Override
+    public void dispose() {
+        super.dispose();
+        releaseDecodedImage();
+    }
+
+    /**
+     * Drops the image decoded from the path or URL, so it is decoded again when the alert is shown again.
+     */
+    private void releaseDecodedImage() {
+        if (url != null && image != null) showImage(null);
+        decodedPixels.addAndGet(-reservedPixels);
+        reservedPixels = 0;
+    }
+
+    /**
+     * Reserves the pixels of the image in the budget and starts loading the image in the background. The image is
+     * decoded smaller if the budget does not allow the requested size.
+     *
+     * @throws IllegalStateException If the decoded pixel budget is spent.
+     */
+    private void decodeImage() {
+        double width;
+        double height;
+        long pixels;
+        long used;
+        do {
+            used = decodedPixels.get();
+            long available = decodedPixelBudget - used;
+            double scale = Math.min(1, Math.sqrt((double) available / ((long) requestedWidth * requestedHeight)));
+            width = Math.floor(requestedWidth * scale);
+            height = Math.floor(requestedHeight * scale);
+            if (available < 1 || width < 1 || height < 1) {
+                throw new IllegalStateException("The decoded pixel budget is spent: " + used + " of "
+                        + decodedPixelBudget + " pixels are used");
+            }
+            pixels = (long) width * (long) height;
+        } while (!decodedPixels.compareAndSet(used, used + pixels));
+        reservedPixels = pixels;
+
+        // a smaller image is shown in its decoded size instead of being stretched
+        setImageSize((int) width, (int) height);
+        imagePane.setPrefSize(width, height);
+        Image decodedImage = new Image(url, width, height, true, true, true);
+        showImage(decodedImage);
+        decodedImage.progressProperty().addListener(x -> updateReservedPixels(decodedImage));
+        decodedImage.errorProperty().addListener(x -> updateReservedPixels(decodedImage));
+        updateReservedPixels(decodedImage);
     }
 
     /**
-     * Sets the with of the buttons to the maximum possible ans shows the alert.
+     * Replaces the reserved pixels with the pixels of the loaded image, which are fewer if the aspect ratio of the
+     * image differs from the requested size. An image which could not be loaded does not hold pixels.
+     */
+    private void updateReservedPixels(Image decodedImage) {
+        if (decodedImage != image || !decodedImage.isError() && decodedImage.getProgress() < 1) return;
+
+        long pixels = decodedImage.isError() ? 0
+                : (long) decodedImage.getWidth() * (long) decodedImage.getHeight();
+        decodedPixels.addAndGet(pixels - reservedPixels);
+        reservedPixels = pixels;
+    }
+
+    /**
+     * Decodes the image of the path or URL, sets the with of the buttons to the maximum possible and shows the alert.
+     *
+     * @throws IllegalStateException If the image has to be decoded and the decoded pixel budget is spent.
      * @since 1.0.0
      */
     public void show() {
+        if (url != null && image == null && !isDisposed()) decodeImage();
         for (Button button : getButtons()) button.setMinWidth(imageView.getFitWidth() / getButtons().size());
         super.show();
     }
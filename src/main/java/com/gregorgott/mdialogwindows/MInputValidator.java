@@ -0,0 +1,26 @@
+package com.gregorgott.mdialogwindows;
+
+/**
+ * A {@code MInputValidator} checks the text of an input alert, e.g. of a {@link MTextFieldAlert}:
+ *
+ * <pre>
+ *     textFieldAlert.addValidator(text -> text.isBlank() ? "Please enter a name." : null);
+ *     textFieldAlert.addAsyncValidator(text -> index.contains(text) ? "The name already exists." : null);
+ * </pre>
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+@FunctionalInterface
+public interface MInputValidator {
+    /**
+     * Checks the text. Synchronous validators are called on the JavaFX Application Thread, asynchronous validators on
+     * a background thread.
+     *
+     * @param text The text to check (not null).
+     * @return The message shown to the user if the text is invalid, or null if the text is valid.
+     * @since 1.2.0
+     */
+    String validate(String text);
+}
@@ -0,0 +1,269 @@
+package com.gregorgott.mdialogwindows;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import javafx.scene.control.ListView;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * The {@code MLogTailAlert} is an {@link MScrollPaneAlert} which shows a live text stream, e.g. the output of a running
+ * process. Lines can be appended from any thread and only the last lines are kept in a ring buffer with a fixed
+ * capacity.
+ *
+ * <p> The shown lines are updated at most once per JavaFX pulse, no matter how many lines were appended in the
+ * meantime. The updates only run while lines are appended, an idle alert does not request pulses. The lines are shown
+ * in a {@code ListView}, which only creates nodes for the visible lines:
+ *
+ * <pre>
+ *     MLogTailAlert logAlert = new MLogTailAlert("Build output", mainStage, 5000);
+ *     logAlert.addButton("Close", x -> logAlert.closeAlert(), true);
+ *     logAlert.show();
+ *
+ *     // on any thread
+ *     logAlert.appendLine(line);
+ * </pre>
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public class MLogTailAlert extends MScrollPaneAlert {
+    private final Object lock = new Object();
+    private final String[] lines;
+    private final ListView<String> lineListView;
+    private final AnimationTimer pulseTimer;
+    // ----- guarded by lock ----- //
+    private int head;
+    private int size;
+    private long appendedCount;
+    private boolean cleared;
+    private boolean updateRequested;
+    // ----- guarded by lock ----- //
+    private long shownCount;
+    private boolean autoScroll;
+
+    /**
+     * Creates a {@code MLogTailAlert} without title and owner.
+     *
+     * @param capacity The maximum number of kept lines (1 or +).
+     * @since 1.2.0
+     */
+    public MLogTailAlert(int capacity) {
+        this(null, null, capacity);
+    }
+
+    /**
+     * Creates a {@code MLogTailAlert} with a title, but without owner.
+     *
+     * @param title    The title of the alert.
+     * @param capacity The maximum number of kept lines (1 or +).
+     * @since 1.2.0
+     */
+    public MLogTailAlert(String title, int capacity) {
+        this(title, null, capacity);
+    }
+
+    /**
+     * Creates a {@code MLogTailAlert} with a title and owner.
+     *
+     * @param title    The title of the alert.
+     * @param root     The owner of the alert.
+     * @param capacity The maximum number of kept lines (1 or +).
+     * @since 1.2.0
+     */
+    public MLogTailAlert(String title, Window root, int capacity) {
+        super(title, root);
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be greater than zero: " + capacity);
+
+        lines = new String[capacity];
+        autoScroll = true;
+
+        lineListView = new ListView<>();
+        lineListView.setFocusTraversable(false);
+        getScrollPane().setFitToHeight(true);
+        getScrollPane().setContent(lineListView);
+
+        pulseTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                // the timer stops when no lines are pending and is started again by the next append
+                if (!showAppendedLines()) stop();
+            }
+        };
+        getStage().addEventHandler(WindowEvent.WINDOW_SHOWN, x -> {
+            showAppendedLines();
+            pulseTimer.start();
+        });
+        getStage().addEventHandler(WindowEvent.WINDOW_HIDDEN, x -> pulseTimer.stop());
+    }
+
+    /**
+     * Appends a line. Can be called from any thread. If the buffer is full, the oldest line is removed.
+     *
+     * @param line The line without line break.
+     * @since 1.2.0
+     */
+    public void appendLine(String line) {
+        synchronized (lock) {
+            append(line);
+            requestUpdate();
+        }
+    }
+
+    /**
+     * Appends several lines at once. Can be called from any thread.
+     *
+     * @param newLines The lines without line breaks.
+     * @since 1.2.0
+     */
+    public void appendLines(Collection<String> newLines) {
+        synchronized (lock) {
+            for (String line : newLines) append(line);
+            requestUpdate();
+        }
+    }
+
+    /**
+     * Removes all lines. Can be called from any thread.
+     *
+     * @since 1.2.0
+     */
+    public void clear() {
+        synchronized (lock) {
+            head = 0;
+            size = 0;
+            cleared = true;
+            Arrays.fill(lines, null);
+            requestUpdate();
+        }
+    }
+
+    /**
+     * @return The maximum number of kept lines.
+     * @since 1.2.0
+     */
+    public int getCapacity() {
+        return lines.length;
+    }
+
+    /**
+     * @return The number of lines appended since the creation of the alert.
+     * @since 1.2.0
+     */
+    public long getAppendedLineCount() {
+        synchronized (lock) {
+            return appendedCount;
+        }
+    }
+
+    /**
+     * @return True if the alert scrolls to the last line when new lines are shown.
+     * @since 1.2.0
+     */
+    public boolean isAutoScroll() {
+        return autoScroll;
+    }
+
+    /**
+     * Defines if the alert scrolls to the last line when new lines are shown.
+     *
+     * @param autoScroll True to scroll to the last line.
+     * @since 1.2.0
+     */
+    public void setAutoScroll(boolean autoScroll) {
+        this.autoScroll = autoScroll;
+    }
+
+    /**
+     * @return The {@code ListView} which shows the lines.
+     * @since 1.2.0
+     */
+    public ListView<String> getLineListView() {
+        return lineListView;
+    }
+
+    /**
+     * Resets the alert and removes all lines.
+     *
+     * @since 1.2.0
+     */
+    @Override
+    protected void reset() {
+        super.reset();
+        clear();
+        lineListView.getItems().clear();
+        getScrollPane().setContent(lineListView);
+    }
+
+    /**
+     * Disposes the alert and removes all lines.
+     *
+     * @since 1.2.0
+     */
+    @Override
+    public void dispose() {
+        pulseTimer.stop();
+        super.dispose();
+    }
+
+    private void append(String line) {
+        lines[(head + size) % lines.length] = line;
+        if (size < lines.length) size++;
+        else head = (head + 1) % lines.length;
+        appendedCount++;
+    }
+
+    /**
+     * Starts the {@code pulseTimer} on the JavaFX Application Thread, if it is not requested yet. Must be called with
+     * the lock.
+     */
+    private void requestUpdate() {
+        if (updateRequested) return;
+
+        updateRequested = true;
+        Platform.runLater(() -> {
+            if (getStage().isShowing()) pulseTimer.start();
+        });
+    }
+
+    /**
+     * Moves the lines appended since the last call from the ring buffer to the {@code lineListView}.
+     *
+     * @return False if no lines were pending. Then the next append requests an update again.
+     */
+    private boolean showAppendedLines() {
+        String[] newLines;
+        boolean replaceAll;
+        synchronized (lock) {
+            long pendingCount = appendedCount - shownCount;
+            if (pendingCount == 0 && !cleared) {
+                updateRequested = false;
+                return false;
+            }
+
+            replaceAll = cleared || pendingCount >= lines.length;
+            int count = replaceAll ? size : (int) pendingCount;
+            newLines = new String[count];
+            for (int i = 0; i < count; i++) newLines[i] = lines[(head + size - count + i) % lines.length];
+
+            shownCount = appendedCount;
+            cleared = false;
+        }
+
+        ObservableList<String> items = lineListView.getItems();
+        if (replaceAll) {
+            items.setAll(newLines);
+        } else {
+            items.addAll(newLines);
+            int excess = items.size() - lines.length;
+            if (excess > 0) items.remove(0, excess);
+        }
+        if (autoScroll && !items.isEmpty()) lineListView.scrollTo(items.size() - 1);
+        return true;
+    }
+}
@@ -1,5 +1,7 @@
 package com.gregorgott.mdialogwindows;
 
+import javafx.animation.PauseTransition;
+import javafx.beans.value.ObservableValue;
 import javafx.geometry.Insets;
 import javafx.scene.Node;
 import javafx.scene.control.Accordion;
@@ -7,16 +9,33 @@ import javafx.scene.control.Label;
 import javafx.scene.control.TitledPane;
 import javafx.stage.Window;
 
+import java.lang.ref.SoftReference;
+import java.util.Objects;
+import java.util.function.Supplier;
+
 /**
  * The {@code MMultiInformationAlert} is based on the {@link MScrollPaneAlert}, because of the {@code ScrollPane}
  * which contains an {@code Accordion} with widgets.
  *
+ * <p> The content of a widget can be created lazily with {@code addLazyWidget()}. Then the content is only created
+ * when the widget is expanded the first time:
+ *
+ * <pre>
+ *     MMultiInformationAlert alert = new MMultiInformationAlert("Diagnostics");
+ *     alert.addLazyTextWidget("Server log", () -> readLog("server.log"));
+ *     alert.setDiscardCollapsedContent(true); // collapsed content can be freed if the memory gets low
+ * </pre>
+ *
  * @author GregorGott
  * @version 1.1.0
  * @since 2022-10-16 (YYYY-MM-DD)
  */
 public class MMultiInformationAlert extends MScrollPaneAlert {
+    // a bit longer than the 350 ms collapse animation of the TitledPane skin
+    private static final javafx.util.Duration COLLAPSE_DURATION = javafx.util.Duration.millis(400);
+
     private final Accordion accordion;
+    private boolean discardCollapsedContent;
 
     /**
      * Creates an alert without a title and owner.
@@ -59,11 +78,7 @@ public class MMultiInformationAlert extends MScrollPaneAlert {
      * @since 1.0.0
      */
     public void addWidget(String header, String contentText) {
-        Label contentTextLabel = new Label(contentText);
-        contentTextLabel.setWrapText(true);
-        contentTextLabel.setPadding(new Insets(10));
-
-        TitledPane titledPane = new TitledPane(header, contentTextLabel);
+        TitledPane titledPane = new TitledPane(header, createContentTextLabel(contentText));
         accordion.getPanes().add(titledPane);
     }
 
@@ -78,4 +93,122 @@ public class MMultiInformationAlert extends MScrollPaneAlert {
         TitledPane titledPane = new TitledPane(header, node);
         accordion.getPanes().add(titledPane);
     }
+
+    /**
+     * Adds a {@code TitledPane} with a header and a content node, which is created when the {@code TitledPane} is
+     * expanded the first time.
+     *
+     * @param header          The header of the widget.
+     * @param contentSupplier Creates the content node.
+     * @since 1.2.0
+     */
+    public void addLazyWidget(String header, Supplier<? extends Node> contentSupplier) {
+        Objects.requireNonNull(contentSupplier);
+
+        TitledPane titledPane = new TitledPane();
+        titledPane.setText(header);
+        titledPane.expandedProperty().addListener(new LazyContent(titledPane, contentSupplier)::onExpandedChanged);
+        accordion.getPanes().add(titledPane);
+    }
+
+    /**
+     * Adds a {@code TitledPane} with a header and a content text, which is created when the {@code TitledPane} is
+     * expanded the first time.
+     *
+     * @param header              The header of the widget.
+     * @param contentTextSupplier Creates the content text.
+     * @since 1.2.0
+     */
+    public void addLazyTextWidget(String header, Supplier<String> contentTextSupplier) {
+        Objects.requireNonNull(contentTextSupplier);
+        addLazyWidget(header, () -> createContentTextLabel(contentTextSupplier.get()));
+    }
+
+    /**
+     * @return True if the content of collapsed lazy widgets can be freed.
+     * @since 1.2.0
+     */
+    public boolean isDiscardCollapsedContent() {
+        return discardCollapsedContent;
+    }
+
+    /**
+     * Defines if the content of collapsed widgets added with {@code addLazyWidget()} can be freed when the memory gets
+     * low. The content is then only softly referenced after the collapse animation and created again, if the widget is
+     * expanded after it was freed.
+     *
+     * @param discardCollapsedContent True if the content of collapsed lazy widgets can be freed.
+     * @since 1.2.0
+     */
+    public void setDiscardCollapsedContent(boolean discardCollapsedContent) {
+        this.discardCollapsedContent = discardCollapsedContent;
+    }
+
+    /**
+     * Resets the alert and removes all widgets.
+     *
+     * @since 1.2.0
+     */
+    @Override
+    protected void reset() {
+        super.reset();
+        accordion.getPanes().clear();
+        getScrollPane().setContent(accordion);
+    }
+
+    private static Label createContentTextLabel(String contentText) {
+        Label contentTextLabel = new Label(contentText);
+        contentTextLabel.setWrapText(true);
+        contentTextLabel.setPadding(new Insets(10));
+        return contentTextLabel;
+    }
+
+    /**
+     * Creates the content of a lazy widget when it is expanded and releases it softly when it is collapsed. The
+     * content is released after the collapse animation, because the animation shows the content until it has finished.
+     */
+    private class LazyContent {
+        private final TitledPane titledPane;
+        private final Supplier<? extends Node> contentSupplier;
+        private SoftReference<Node> collapsedContent;
+        private PauseTransition releaseTransition;
+
+        private LazyContent(TitledPane titledPane, Supplier<? extends Node> contentSupplier) {
+            this.titledPane = titledPane;
+            this.contentSupplier = contentSupplier;
+        }
+
+        private void onExpandedChanged(ObservableValue<? extends Boolean> observable, Boolean wasExpanded,
+                                       Boolean expanded) {
+            if (expanded) {
+                // expanded again during the collapse animation, the content is still set
+                if (releaseTransition != null) releaseTransition.stop();
+                if (titledPane.getContent() != null) return;
+
+                Node content = collapsedContent != null ? collapsedContent.get() : null;
+                collapsedContent = null;
+                titledPane.setContent(content != null ? content : contentSupplier.get());
+            } else if (discardCollapsedContent && titledPane.getContent() != null) {
+                if (!titledPane.isAnimated()) {
+                    releaseContent();
+                    return;
+                }
+
+                if (releaseTransition == null) {
+                    releaseTransition = new PauseTransition(COLLAPSE_DURATION);
+                    releaseTransition.setOnFinished(x -> {
+                        if (discardCollapsedContent && !titledPane.isExpanded()) releaseContent();
+                    });
+                }
+                releaseTransition.playFromStart();
+            }
+        }
+
+        private void releaseContent() {
+            if (titledPane.getContent() == null) return;
+
+            collapsedContent = new SoftReference<>(titledPane.getContent());
+            titledPane.setContent(null);
+        }
+    }
 }
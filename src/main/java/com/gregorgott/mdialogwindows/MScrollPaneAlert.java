@@ -66,4 +66,17 @@ public class MScrollPaneAlert extends MDialogWindow {
     public ScrollPane getScrollPane() {
         return scrollPane;
     }
+
+    /**
+     * Resets the alert and removes the content of the {@code scrollPane}.
+     *
+     * @since 1.2.0
+     */
+    @Override
+    protected void reset() {
+        super.reset();
+        scrollPane.setContent(null);
+        scrollPane.setVvalue(0);
+        getBorderPane().setCenter(scrollPane);
+    }
 }
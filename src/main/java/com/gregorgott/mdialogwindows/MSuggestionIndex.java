@@ -0,0 +1,182 @@
+package com.gregorgott.mdialogwindows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The {@code MSuggestionIndex} finds the suggestions of an input prefix in a large, sorted dictionary, e.g. of
+ * hostnames or ticket IDs. The prefix search is case-insensitive and uses a binary search, so it does not depend on
+ * the size of the dictionary. The index is immutable and can be shared by all alerts, it should be built once and not
+ * on the JavaFX Application Thread:
+ *
+ * <pre>
+ *     MSuggestionIndex hostIndex = MSuggestionIndex.of(hostnames); // e.g. in a background task
+ *     ...
+ *     textFieldAlert.setSuggestionIndex(hostIndex);
+ * </pre>
+ *
+ * <p> A {@link Lookup} remembers the range of the last prefix. If the user types further, the next prefix is only
+ * searched in this range.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public final class MSuggestionIndex {
+    private final String[] keys;
+    private final String[] values;
+
+    private MSuggestionIndex(String[] keys, String[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Builds an index of the suggestions. Duplicates and null elements are removed.
+     *
+     * @param suggestions The suggestions.
+     * @return The index.
+     * @since 1.2.0
+     */
+    public static MSuggestionIndex of(Collection<String> suggestions) {
+        Entry[] entries = new Entry[suggestions.size()];
+        int count = 0;
+        for (String suggestion : suggestions) {
+            if (suggestion == null) continue;
+
+            String key = suggestion.toLowerCase(Locale.ROOT);
+            // the same instance is kept for lower case suggestions, to not store them twice
+            entries[count++] = new Entry(key.equals(suggestion) ? suggestion : key, suggestion);
+        }
+        Arrays.sort(entries, 0, count, Comparator.comparing(Entry::key).thenComparing(Entry::value));
+
+        String[] keys = new String[count];
+        String[] values = new String[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (size > 0 && values[size - 1].equals(entries[i].value())) continue;
+
+            keys[size] = entries[i].key();
+            values[size] = entries[i].value();
+            size++;
+        }
+        return new MSuggestionIndex(Arrays.copyOf(keys, size), Arrays.copyOf(values, size));
+    }
+
+    /**
+     * @return The number of suggestions in the index.
+     * @since 1.2.0
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the first suggestions, in alphabetical order, which start with the prefix (case-insensitive).
+     *
+     * @param prefix The prefix.
+     * @param limit  The maximum number of suggestions.
+     * @return The suggestions.
+     * @since 1.2.0
+     */
+    public List<String> suggest(String prefix, int limit) {
+        return new Lookup().suggest(prefix, limit);
+    }
+
+    /**
+     * Creates a {@code Lookup}, which is used by one text input.
+     *
+     * @return The new {@code Lookup}.
+     * @since 1.2.0
+     */
+    public Lookup lookup() {
+        return new Lookup();
+    }
+
+    /**
+     * @return The index of the first key which is not less than the prefix.
+     */
+    private int lowerBound(String prefix, int from, int to) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (keys[middle].compareTo(prefix) < 0) from = middle + 1;
+            else to = middle;
+        }
+        return from;
+    }
+
+    /**
+     * @return The index of the first key after {@code from} which does not start with the prefix.
+     */
+    private int upperBound(String prefix, int from, int to) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (keys[middle].startsWith(prefix)) from = middle + 1;
+            else to = middle;
+        }
+        return from;
+    }
+
+    private record Entry(String key, String value) {
+    }
+
+    /**
+     * A {@code Lookup} searches the suggestions of a text input and keeps the range of the last prefix. It is not
+     * thread-safe.
+     *
+     * @since 1.2.0
+     */
+    public final class Lookup {
+        private String lastPrefix;
+        private int lastFrom;
+        private int lastTo;
+
+        private Lookup() {
+        }
+
+        /**
+         * Returns the first suggestions, in alphabetical order, which start with the prefix (case-insensitive). If the
+         * prefix starts with the prefix of the last call, only the range of the last call is searched.
+         *
+         * @param prefix The prefix.
+         * @param limit  The maximum number of suggestions.
+         * @return The suggestions.
+         * @since 1.2.0
+         */
+        public List<String> suggest(String prefix, int limit) {
+            if (limit < 0) throw new IllegalArgumentException("limit must not be negative: " + limit);
+
+            String key = prefix.toLowerCase(Locale.ROOT);
+            int from = 0;
+            int to = keys.length;
+            if (lastPrefix != null && key.startsWith(lastPrefix)) {
+                from = lastFrom;
+                to = lastTo;
+            }
+            if (!key.equals(lastPrefix)) {
+                from = lowerBound(key, from, to);
+                to = upperBound(key, from, to);
+                lastPrefix = key;
+                lastFrom = from;
+                lastTo = to;
+            }
+
+            int count = Math.min(limit, to - from);
+            List<String> suggestions = new ArrayList<>(count);
+            for (int i = from; i < from + count; i++) suggestions.add(values[i]);
+            return suggestions;
+        }
+
+        /**
+         * @return The number of suggestions of the last prefix.
+         * @since 1.2.0
+         */
+        public int getMatchCount() {
+            return lastTo - lastFrom;
+        }
+    }
+}
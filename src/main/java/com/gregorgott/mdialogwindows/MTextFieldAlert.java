@@ -1,16 +1,57 @@
 package com.gregorgott.mdialogwindows;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.geometry.Bounds;
 import javafx.geometry.Pos;
+import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseButton;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.Popup;
 import javafx.stage.Window;
+import javafx.stage.WindowEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The {@code MTextFieldAlert} is a text input alert with a {@code TextField}.
  * The content of the text field is returned by the {@code getText()} method.
  *
+ * <p> The input can be checked by {@link MInputValidator}s. The validators are called when the user stops typing for
+ * the validation delay. Synchronous validators are called first on the JavaFX Application Thread, then the asynchronous
+ * validators on the validation executor, so slow checks never block the JavaFX Application Thread. A check which is
+ * outdated by a new input is cancelled. The message of the first failed validator is shown below the
+ * {@code TextField} and the default buttons are disabled until the input is valid:
+ *
+ * <pre>
+ *     textFieldAlert.addValidator(text -> text.isBlank() ? "Please enter a name." : null);
+ *     textFieldAlert.addAsyncValidator(text -> index.contains(text) ? "The name already exists." : null);
+ *     textFieldAlert.addButton("Create", x -> create(textFieldAlert.getText()), true);
+ * </pre>
+ *
+ * <p> With a {@link MSuggestionIndex} the alert shows suggestions while the user types. The suggestions are shown in a
+ * virtualized {@code ListView} in a popup below the {@code TextField}, they are selected with the arrow keys and taken
+ * with enter or a click.
+ *
  * @author GregorGott
  * @version 1.1.0
  * @since 2022-10-16 (YYYY-MM-DD)
@@ -18,6 +59,25 @@ import javafx.stage.Window;
 public class MTextFieldAlert extends MDialogWindow {
     private final TextField textField;
     private final Label infoTextLabel;
+    private final HBox centerHBox;
+    private final List<MInputValidator> validators;
+    private final List<MInputValidator> asyncValidators;
+    private final PauseTransition validationDelay;
+    private final AtomicLong validationGeneration;
+    private final ReadOnlyBooleanWrapper valid;
+    private final ReadOnlyBooleanWrapper validating;
+    private final ReadOnlyStringWrapper validationMessage;
+    private VBox centerVBox;
+    private Label validationLabel;
+    private Executor validationExecutor;
+    private CompletableFuture<String> asyncValidation;
+    private MSuggestionIndex suggestionIndex;
+    private MSuggestionIndex.Lookup suggestionLookup;
+    private int suggestionLimit;
+    private Popup suggestionPopup;
+    private ListView<String> suggestionListView;
+    private boolean acceptingSuggestion;
+    private boolean touched;
 
     /**
      * Creates a {@code MTextFieldAlert} without title and owner.
@@ -55,12 +115,30 @@ public class MTextFieldAlert extends MDialogWindow {
         textField = new TextField();
         textField.setMinWidth(150);
 
-        HBox centerHBox = new HBox();
+        centerHBox = new HBox();
         centerHBox.setSpacing(5);
         centerHBox.setAlignment(Pos.CENTER);
         centerHBox.getChildren().addAll(infoTextLabel, textField);
         HBox.setHgrow(textField, Priority.ALWAYS);
 
+        validators = new ArrayList<>();
+        asyncValidators = new ArrayList<>();
+        validationGeneration = new AtomicLong();
+        valid = new ReadOnlyBooleanWrapper(true);
+        validating = new ReadOnlyBooleanWrapper();
+        validationMessage = new ReadOnlyStringWrapper();
+        validationExecutor = ForkJoinPool.commonPool();
+        validationDelay = new PauseTransition(javafx.util.Duration.millis(300));
+        validationDelay.setOnFinished(x -> validate());
+        textField.textProperty().addListener((observable, oldText, newText) -> onTextChanged());
+
+        suggestionLimit = 10;
+        textField.addEventFilter(KeyEvent.KEY_PRESSED, this::onSuggestionKeyPressed);
+        textField.focusedProperty().addListener((observable, wasFocused, focused) -> {
+            if (!focused) hideSuggestions();
+        });
+        getStage().addEventHandler(WindowEvent.WINDOW_HIDDEN, x -> hideSuggestions());
+
         setButtonSpacing(10);
         getBorderPane().setCenter(centerHBox);
     }
@@ -98,4 +176,372 @@ public class MTextFieldAlert extends MDialogWindow {
     public String getText() {
         return textField.getText();
     }
+
+    /**
+     * Adds a button. A default button is disabled while the input is not valid.
+     *
+     * @param text          The button text.
+     * @param onClickEvent  The called ActionEvent when the button is pushed.
+     * @param defaultButton The default button boolean.
+     * @since 1.2.0
+     */
+    @Override
+    public void addButton(String text, EventHandler<ActionEvent> onClickEvent, boolean defaultButton) {
+        super.addButton(text, onClickEvent, defaultButton);
+        if (defaultButton) {
+            List<Button> buttons = getButtons();
+            buttons.get(buttons.size() - 1).disableProperty().bind(valid.not());
+        }
+    }
+
+    /**
+     * @return The text in the {@code textField}, which is part of the result of {@code showAsync()}.
+     * @since 1.2.0
+     */
+    @Override
+    protected String getResultText() {
+        return getText();
+    }
+
+    /**
+     * Adds a validator which is called on the JavaFX Application Thread. It must return fast, slow checks are added
+     * with {@code addAsyncValidator()}. The current input is validated at once, but the message is only shown after
+     * the first input or {@code validateNow()} call, so an empty required field does not start with an error.
+     *
+     * @param validator The validator.
+     * @since 1.2.0
+     */
+    public void addValidator(MInputValidator validator) {
+        validators.add(Objects.requireNonNull(validator));
+        cancelValidation();
+        validate();
+    }
+
+    /**
+     * Adds a validator which is called on the validation executor, after all synchronous validators accepted the
+     * input.
+     *
+     * @param validator The validator, which must be thread-safe.
+     * @since 1.2.0
+     */
+    public void addAsyncValidator(MInputValidator validator) {
+        asyncValidators.add(Objects.requireNonNull(validator));
+        cancelValidation();
+        validate();
+    }
+
+    /**
+     * Sets the time without input after which the validators are called (default: 300 ms).
+     *
+     * @param delay The delay, zero to validate on every input.
+     * @since 1.2.0
+     */
+    public void setValidationDelay(Duration delay) {
+        if (delay.isNegative()) throw new IllegalArgumentException("delay must not be negative: " + delay);
+        validationDelay.setDuration(javafx.util.Duration.millis(delay.toMillis()));
+    }
+
+    /**
+     * Sets the executor of the asynchronous validators (default: the common {@code ForkJoinPool}).
+     *
+     * @param executor The executor.
+     * @since 1.2.0
+     */
+    public void setValidationExecutor(Executor executor) {
+        validationExecutor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Calls the validators at once, without waiting for the validation delay, and shows the message, e.g. when the
+     * input is submitted.
+     *
+     * @since 1.2.0
+     */
+    public void validateNow() {
+        touched = true;
+        cancelValidation();
+        validate();
+    }
+
+    /**
+     * @return True if all validators accepted the current input. False while the input is validated.
+     * @since 1.2.0
+     */
+    public ReadOnlyBooleanProperty validProperty() {
+        return valid.getReadOnlyProperty();
+    }
+
+    /**
+     * @return True if the input is validated.
+     * @since 1.2.0
+     */
+    public ReadOnlyBooleanProperty validatingProperty() {
+        return validating.getReadOnlyProperty();
+    }
+
+    /**
+     * @return The message of the first failed validator, or null if the input is valid.
+     * @since 1.2.0
+     */
+    public ReadOnlyStringProperty validationMessageProperty() {
+        return validationMessage.getReadOnlyProperty();
+    }
+
+    /**
+     * @return True if all validators accepted the current input.
+     * @since 1.2.0
+     */
+    public boolean isValid() {
+        return valid.get();
+    }
+
+    /**
+     * Resets the alert, clears the {@code textField} and removes all validators.
+     *
+     * @since 1.2.0
+     */
+    @Override
+    protected void reset() {
+        super.reset();
+        validators.clear();
+        asyncValidators.clear();
+        infoTextLabel.setText(null);
+        textField.clear();
+        setSuggestionIndex(null);
+        cancelValidation();
+        setValidationResult(null);
+        touched = false;
+        getBorderPane().setCenter(centerVBox != null ? centerVBox : centerHBox);
+    }
+
+    /**
+     * Disposes the alert, cancels a running validation and removes the suggestions.
+     *
+     * @since 1.2.0
+     */
+    @Override
+    public void dispose() {
+        cancelValidation();
+        setSuggestionIndex(null);
+        super.dispose();
+    }
+
+    /**
+     * @return The index of the suggestions or null if no suggestions are shown.
+     * @since 1.2.0
+     */
+    public MSuggestionIndex getSuggestionIndex() {
+        return suggestionIndex;
+    }
+
+    /**
+     * Sets the index of the suggestions, which are shown while the user types. The index can be shared with other
+     * alerts.
+     *
+     * @param suggestionIndex The index or null to show no suggestions.
+     * @since 1.2.0
+     */
+    public void setSuggestionIndex(MSuggestionIndex suggestionIndex) {
+        this.suggestionIndex = suggestionIndex;
+        suggestionLookup = suggestionIndex != null ? suggestionIndex.lookup() : null;
+        hideSuggestions();
+    }
+
+    /**
+     * Sets the maximum number of shown suggestions (default: 10).
+     *
+     * @param suggestionLimit The maximum number of shown suggestions (1 or +).
+     * @since 1.2.0
+     */
+    public void setSuggestionLimit(int suggestionLimit) {
+        if (suggestionLimit < 1) {
+            throw new IllegalArgumentException("suggestionLimit must be greater than zero: " + suggestionLimit);
+        }
+        this.suggestionLimit = suggestionLimit;
+    }
+
+    private void onTextChanged() {
+        touched = true;
+        if (!acceptingSuggestion) updateSuggestions();
+        if (validators.isEmpty() && asyncValidators.isEmpty()) return;
+
+        cancelValidation();
+        // the input is not valid until it is checked
+        valid.set(false);
+        validating.set(true);
+        validationDelay.playFromStart();
+    }
+
+    private void updateSuggestions() {
+        String text = textField.getText();
+        if (suggestionLookup == null || text == null || text.isEmpty() || !getStage().isShowing()) {
+            hideSuggestions();
+            return;
+        }
+
+        List<String> suggestions = suggestionLookup.suggest(text, suggestionLimit);
+        if (suggestions.isEmpty() || suggestions.size() == 1 && suggestions.get(0).equals(text)) {
+            hideSuggestions();
+            return;
+        }
+
+        ListView<String> listView = getSuggestionListView();
+        listView.getItems().setAll(suggestions);
+        listView.getSelectionModel().clearSelection();
+        listView.scrollTo(0);
+        // the list view is only as high as its items, so it never creates cells which are not visible
+        listView.setPrefHeight(suggestions.size() * listView.getFixedCellSize() + 2);
+
+        if (!suggestionPopup.isShowing()) {
+            suggestionPopup.getScene().getStylesheets().setAll(getStylesheet(getTheme()));
+            Bounds bounds = textField.localToScreen(textField.getBoundsInLocal());
+            listView.setPrefWidth(bounds.getWidth());
+            suggestionPopup.show(textField, bounds.getMinX(), bounds.getMaxY());
+        }
+    }
+
+    private void hideSuggestions() {
+        if (suggestionPopup != null) suggestionPopup.hide();
+    }
+
+    private void acceptSuggestion(String suggestion) {
+        acceptingSuggestion = true;
+        try {
+            textField.setText(suggestion);
+            textField.positionCaret(suggestion.length());
+        } finally {
+            acceptingSuggestion = false;
+        }
+        hideSuggestions();
+    }
+
+    private void onSuggestionKeyPressed(KeyEvent event) {
+        if (suggestionPopup == null || !suggestionPopup.isShowing()) return;
+
+        int selectedIndex = suggestionListView.getSelectionModel().getSelectedIndex();
+        switch (event.getCode()) {
+            case DOWN -> suggestionListView.getSelectionModel()
+                    .select(Math.min(selectedIndex + 1, suggestionListView.getItems().size() - 1));
+            case UP -> suggestionListView.getSelectionModel().select(Math.max(selectedIndex - 1, 0));
+            case ENTER -> {
+                // without a selected suggestion, enter fires the default button
+                if (selectedIndex < 0) return;
+                acceptSuggestion(suggestionListView.getSelectionModel().getSelectedItem());
+            }
+            case ESCAPE -> hideSuggestions();
+            default -> {
+                return;
+            }
+        }
+        suggestionListView.scrollTo(Math.max(suggestionListView.getSelectionModel().getSelectedIndex(), 0));
+        event.consume();
+    }
+
+    /**
+     * Creates the popup with the suggestions, when it is needed the first time.
+     */
+    private ListView<String> getSuggestionListView() {
+        if (suggestionListView == null) {
+            suggestionListView = new ListView<>();
+            suggestionListView.setFixedCellSize(24);
+            suggestionListView.setFocusTraversable(false);
+            suggestionListView.setOnMouseClicked(x -> {
+                String suggestion = suggestionListView.getSelectionModel().getSelectedItem();
+                if (x.getButton() == MouseButton.PRIMARY && suggestion != null) acceptSuggestion(suggestion);
+            });
+
+            suggestionPopup = new Popup();
+            suggestionPopup.setAutoHide(true);
+            suggestionPopup.getContent().add(suggestionListView);
+        }
+        return suggestionListView;
+    }
+
+    private void cancelValidation() {
+        validationGeneration.incrementAndGet();
+        validationDelay.stop();
+        if (asyncValidation != null) {
+            asyncValidation.cancel(false);
+            asyncValidation = null;
+        }
+    }
+
+    /**
+     * Calls the synchronous validators and starts the asynchronous validators.
+     */
+    private void validate() {
+        String text = Objects.requireNonNullElse(textField.getText(), "");
+        for (MInputValidator validator : validators) {
+            String message = validator.validate(text);
+            if (message != null) {
+                setValidationResult(message);
+                return;
+            }
+        }
+        if (asyncValidators.isEmpty()) {
+            setValidationResult(null);
+            return;
+        }
+
+        valid.set(false);
+        validating.set(true);
+        long generation = validationGeneration.get();
+        List<MInputValidator> validatorsCopy = List.copyOf(asyncValidators);
+        asyncValidation = CompletableFuture.supplyAsync(() -> {
+            for (MInputValidator validator : validatorsCopy) {
+                // stop outdated checks before calling the next validator
+                if (validationGeneration.get() != generation) return null;
+
+                String message = validator.validate(text);
+                if (message != null) return message;
+            }
+            return null;
+        }, validationExecutor);
+        asyncValidation.whenComplete((message, throwable) -> Platform.runLater(() -> {
+            if (validationGeneration.get() != generation) return;
+
+            asyncValidation = null;
+            if (throwable != null) {
+                Throwable cause = throwable.getCause() != null ? throwable.getCause() : throwable;
+                setValidationResult(Objects.requireNonNullElse(cause.getMessage(), cause.toString()));
+            } else {
+                setValidationResult(message);
+            }
+        }));
+    }
+
+    private void setValidationResult(String message) {
+        validationMessage.set(message);
+        validating.set(false);
+        valid.set(message == null);
+
+        // before the first input the buttons are disabled, but no message is shown
+        boolean showMessage = message != null && touched;
+        if (showMessage || validationLabel != null) {
+            Label label = getValidationLabel();
+            label.setText(showMessage ? message : null);
+            label.setVisible(showMessage);
+            label.setManaged(showMessage);
+        }
+    }
+
+    /**
+     * Creates the label below the {@code textField} which shows the validation message, when it is needed the first
+     * time.
+     */
+    private Label getValidationLabel() {
+        if (validationLabel == null) {
+            validationLabel = new Label();
+            validationLabel.setId("validation-label");
+            validationLabel.setWrapText(true);
+
+            boolean centerShown = getBorderPane().getCenter() == centerHBox;
+            if (centerShown) getBorderPane().setCenter(null);
+            centerVBox = new VBox(centerHBox, validationLabel);
+            centerVBox.setSpacing(5);
+            centerVBox.setAlignment(Pos.CENTER);
+            if (centerShown) getBorderPane().setCenter(centerVBox);
+        }
+        return validationLabel;
+    }
 }
@@ -0,0 +1,125 @@
+package com.gregorgott.mdialogwindows;
+
+import javafx.geometry.Bounds;
+import javafx.geometry.Dimension2D;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code MTextMeasurer} measures the size of texts and caches the results by font, text and wrapping width. Alerts use
+ * it to compute their size before they are shown, so alerts with the same texts, e.g. created from the same
+ * {@link MAlertSpec}, do not measure their texts again:
+ *
+ * <pre>
+ *     Dimension2D size = MTextMeasurer.measure(infoText, font, 320);
+ * </pre>
+ *
+ * <p> The cache keeps the most recently used measurements, up to the maximum size. All methods are thread-safe.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public final class MTextMeasurer {
+    private static final Text text = new Text();
+    private static final Map<Key, Dimension2D> cache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Dimension2D> eldest) {
+            return size() > maxSize;
+        }
+    };
+    // ----- guarded by cache ----- //
+    private static int maxSize = 512;
+    private static long hitCount;
+    private static long missCount;
+    // ----- guarded by cache ----- //
+
+    private MTextMeasurer() {
+    }
+
+    /**
+     * Measures the size of a text. Line breaks in the text start new lines.
+     *
+     * @param string        The text (null is measured as an empty text).
+     * @param font          The font.
+     * @param wrappingWidth The width at which lines are wrapped, 0 to not wrap lines.
+     * @return The width and height of the text.
+     * @since 1.2.0
+     */
+    public static Dimension2D measure(String string, Font font, double wrappingWidth) {
+        Key key = new Key(font.getName(), font.getSize(), string != null ? string : "", Math.max(wrappingWidth, 0));
+        synchronized (cache) {
+            Dimension2D size = cache.get(key);
+            if (size != null) {
+                hitCount++;
+                return size;
+            }
+
+            missCount++;
+            text.setFont(font);
+            text.setWrappingWidth(key.wrappingWidth());
+            text.setText(key.text());
+            Bounds bounds = text.getLayoutBounds();
+            size = new Dimension2D(Math.ceil(bounds.getWidth()), Math.ceil(bounds.getHeight()));
+            // do not keep the last text alive
+            text.setText(null);
+
+            cache.put(key, size);
+            return size;
+        }
+    }
+
+    /**
+     * Sets the maximum number of cached measurements (default: 512).
+     *
+     * @param maxSize The maximum number of cached measurements (0 or +).
+     * @since 1.2.0
+     */
+    public static void setMaxSize(int maxSize) {
+        if (maxSize < 0) throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+
+        synchronized (cache) {
+            MTextMeasurer.maxSize = maxSize;
+            while (cache.size() > maxSize) cache.remove(cache.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * @return How often a cached measurement was returned.
+     * @since 1.2.0
+     */
+    public static long getHitCount() {
+        synchronized (cache) {
+            return hitCount;
+        }
+    }
+
+    /**
+     * @return How often a text had to be measured.
+     * @since 1.2.0
+     */
+    public static long getMissCount() {
+        synchronized (cache) {
+            return missCount;
+        }
+    }
+
+    /**
+     * Removes all cached measurements and resets the hit and miss counters.
+     *
+     * @since 1.2.0
+     */
+    public static void clear() {
+        synchronized (cache) {
+            cache.clear();
+            hitCount = 0;
+            missCount = 0;
+        }
+    }
+
+    private record Key(String fontName, double fontSize, String text, double wrappingWidth) {
+    }
+}
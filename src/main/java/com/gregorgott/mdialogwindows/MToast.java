@@ -0,0 +1,110 @@
+package com.gregorgott.mdialogwindows;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.stage.Popup;
+import javafx.stage.Window;
+
+/**
+ * A {@code MToast} is one reusable window of the {@link MToastCenter}. It shows the image of an {@code MAlertType}, a
+ * headline and a message and gets new content for every notification.
+ *
+ * <p> The toast is a {@code Popup} of the owner window of the toast center, so it does not take the focus from the
+ * application and has no entry in the taskbar.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+final class MToast {
+    static final double WIDTH = 320;
+    private static final Font HEADLINE_FONT = new Font("Helvetica", 16);
+    private static final Font MESSAGE_FONT = new Font("Helvetica", 13);
+
+    private final Popup popup;
+    private final HBox contentBox;
+    private final ImageView imageView;
+    private final Label headlineLabel;
+    private final Label messageLabel;
+    private long deadline;
+    private long shownAt;
+
+    MToast() {
+        imageView = new ImageView();
+        imageView.setFitWidth(50);
+        imageView.setFitHeight(50);
+
+        headlineLabel = new Label();
+        headlineLabel.setWrapText(true);
+        headlineLabel.setFont(HEADLINE_FONT);
+
+        messageLabel = new Label();
+        messageLabel.setWrapText(true);
+        messageLabel.setFont(MESSAGE_FONT);
+
+        VBox labelsVBox = new VBox(headlineLabel, messageLabel);
+        labelsVBox.setAlignment(Pos.CENTER_LEFT);
+        labelsVBox.setSpacing(5);
+
+        contentBox = new HBox(imageView, labelsVBox);
+        contentBox.setSpacing(15);
+        contentBox.setPadding(new Insets(10));
+        contentBox.setPrefWidth(WIDTH);
+        contentBox.setMaxWidth(WIDTH);
+        // the popup has no scene root of its own, so the content gets the root style of the alert stylesheets
+        contentBox.getStyleClass().add("root");
+
+        popup = new Popup();
+        popup.getContent().add(contentBox);
+    }
+
+    /**
+     * Replaces the content of the toast and applies the current theme of the {@link MAlertThemeManager}.
+     */
+    void setContent(MAlert.MAlertType mAlertType, String headline, String message) {
+        contentBox.getStylesheets().setAll(MAlertThemeManager.getTheme().getStylesheet());
+        imageView.setImage(MAlertIcons.get(mAlertType));
+        headlineLabel.setText(headline);
+        messageLabel.setText(message);
+        // without a message, the label must not leave an empty row
+        messageLabel.setVisible(message != null);
+        messageLabel.setManaged(message != null);
+        popup.setOpacity(1);
+    }
+
+    /**
+     * Shows the toast as popup of the owner window.
+     */
+    void show(Window owner, double x, double y) {
+        popup.show(owner, x, y);
+    }
+
+    void close() {
+        popup.hide();
+    }
+
+    Popup getPopup() {
+        return popup;
+    }
+
+    long getDeadline() {
+        return deadline;
+    }
+
+    void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    long getShownAt() {
+        return shownAt;
+    }
+
+    void setShownAt(long shownAt) {
+        this.shownAt = shownAt;
+    }
+}
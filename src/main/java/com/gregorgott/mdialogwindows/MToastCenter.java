@@ -0,0 +1,316 @@
+package com.gregorgott.mdialogwindows;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.input.MouseEvent;
+import javafx.stage.Screen;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The {@code MToastCenter} shows short notifications, which close themselves after a while and are stacked in a corner
+ * of the screen of the owner window. The notifications are popups of the owner window: they are not modal, do not take
+ * the focus from the application and have no entry in the taskbar.
+ *
+ * <pre>
+ *     MToastCenter toastCenter = new MToastCenter(mainStage, 3, MToastCenter.Corner.BOTTOM_RIGHT);
+ *
+ *     // on any thread
+ *     toastCenter.show(MAlert.MAlertType.INFORMATION, "Upload finished", "report.pdf was uploaded.");
+ * </pre>
+ *
+ * <p> The toast center is made for many notifications: it creates a fixed number of windows once and reuses them for
+ * all notifications. If all windows are visible, new notifications wait in a bounded queue and the oldest waiting
+ * notification is dropped if the queue is full. The timeouts and the fade-out of all windows are handled by one
+ * {@code AnimationTimer}, which only runs while a notification is visible. The windows use the theme of the
+ * {@link MAlertThemeManager}. While the owner window is hidden, new notifications wait in the queue.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public class MToastCenter {
+    private static final long FADE_NANOS = 300_000_000L;
+    private static final double SPACING = 10;
+
+    private final Window owner;
+    private final MToast[] toasts;
+    private final ArrayDeque<Notification> pendingNotifications;
+    private final AnimationTimer timer;
+    private final Corner corner;
+    private long durationNanos;
+    private int maxPending;
+    private long shownCount;
+    private long droppedCount;
+    private boolean timerRunning;
+
+    /**
+     * Creates a toast center. The windows are created when they are needed the first time.
+     *
+     * @param owner      The owner window of the notifications.
+     * @param maxVisible The maximum number of visible notifications (1 or +).
+     * @param corner     The corner of the screen in which the notifications are stacked.
+     * @since 1.2.0
+     */
+    public MToastCenter(Window owner, int maxVisible, Corner corner) {
+        if (maxVisible < 1) throw new IllegalArgumentException("maxVisible must be greater than zero: " + maxVisible);
+
+        this.owner = Objects.requireNonNull(owner);
+        toasts = new MToast[maxVisible];
+        pendingNotifications = new ArrayDeque<>();
+        this.corner = Objects.requireNonNull(corner);
+        durationNanos = Duration.ofSeconds(4).toNanos();
+        maxPending = 50;
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                update(now);
+            }
+        };
+        owner.addEventHandler(WindowEvent.WINDOW_SHOWN, x -> update(System.nanoTime()));
+    }
+
+    /**
+     * Shows a notification with the default duration. Can be called from any thread.
+     *
+     * @param mAlertType The {@code MAlertType}, which defines the image.
+     * @param headline   The headline.
+     * @param message    The message (can be null).
+     * @since 1.2.0
+     */
+    public void show(MAlert.MAlertType mAlertType, String headline, String message) {
+        show(mAlertType, headline, message, null);
+    }
+
+    /**
+     * Shows a notification. Can be called from any thread.
+     *
+     * @param mAlertType The {@code MAlertType}, which defines the image.
+     * @param headline   The headline.
+     * @param message    The message (can be null).
+     * @param duration   The time the notification is shown or null for the default duration.
+     * @since 1.2.0
+     */
+    public void show(MAlert.MAlertType mAlertType, String headline, String message, Duration duration) {
+        Objects.requireNonNull(mAlertType);
+        Notification notification = new Notification(mAlertType, headline, message,
+                duration != null ? duration.toNanos() : -1);
+
+        if (Platform.isFxApplicationThread()) enqueue(notification);
+        else Platform.runLater(() -> enqueue(notification));
+    }
+
+    /**
+     * Sets the time a notification is shown, if no duration is given (default: 4 seconds).
+     *
+     * @param duration The duration.
+     * @since 1.2.0
+     */
+    public void setDuration(Duration duration) {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("duration must be positive: " + duration);
+        }
+        durationNanos = duration.toNanos();
+    }
+
+    /**
+     * Sets the maximum number of waiting notifications (default: 50). Must be called on the JavaFX Application Thread.
+     *
+     * @param maxPending The maximum number of waiting notifications (0 or +).
+     * @since 1.2.0
+     */
+    public void setMaxPending(int maxPending) {
+        if (maxPending < 0) throw new IllegalArgumentException("maxPending must not be negative: " + maxPending);
+
+        this.maxPending = maxPending;
+        while (pendingNotifications.size() > maxPending) {
+            pendingNotifications.pollFirst();
+            droppedCount++;
+        }
+    }
+
+    /**
+     * Closes all notifications and removes the waiting notifications. Must be called on the JavaFX Application
+     * Thread.
+     *
+     * @since 1.2.0
+     */
+    public void clear() {
+        pendingNotifications.clear();
+        for (MToast toast : toasts) {
+            if (toast != null) toast.close();
+        }
+        stopTimer();
+    }
+
+    /**
+     * @return The number of waiting notifications. Must be called on the JavaFX Application Thread.
+     * @since 1.2.0
+     */
+    public int getPendingCount() {
+        return pendingNotifications.size();
+    }
+
+    /**
+     * @return The number of shown notifications. Must be called on the JavaFX Application Thread.
+     * @since 1.2.0
+     */
+    public long getShownCount() {
+        return shownCount;
+    }
+
+    /**
+     * @return The number of notifications dropped, because the queue was full. Must be called on the JavaFX
+     * Application Thread.
+     * @since 1.2.0
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    private void enqueue(Notification notification) {
+        if (maxPending == 0 && findFreeToast() == null) {
+            droppedCount++;
+            return;
+        }
+
+        pendingNotifications.addLast(notification);
+        if (pendingNotifications.size() > maxPending && pendingNotifications.size() > 1) {
+            pendingNotifications.pollFirst();
+            droppedCount++;
+        }
+        update(System.nanoTime());
+    }
+
+    /**
+     * Closes the expired toasts, fades out the toasts which expire soon and shows the waiting notifications. Called
+     * by the {@code timer} on every pulse.
+     */
+    private void update(long now) {
+        boolean changed = false;
+        for (MToast toast : toasts) {
+            if (toast == null || !toast.getPopup().isShowing()) continue;
+
+            long remaining = toast.getDeadline() - now;
+            if (remaining <= 0) {
+                toast.close();
+                changed = true;
+            } else if (remaining < FADE_NANOS) {
+                toast.getPopup().setOpacity((double) remaining / FADE_NANOS);
+            }
+        }
+
+        MToast toast;
+        while (owner.isShowing() && !pendingNotifications.isEmpty() && (toast = findFreeToast()) != null) {
+            Notification notification = pendingNotifications.pollFirst();
+            toast.setContent(notification.mAlertType(), notification.headline(), notification.message());
+            toast.setShownAt(now);
+            toast.setDeadline(now + (notification.durationNanos() >= 0 ? notification.durationNanos() : durationNanos));
+            Rectangle2D bounds = getScreenBounds();
+            toast.show(owner, isLeft() ? bounds.getMinX() + SPACING : bounds.getMaxX() - SPACING - MToast.WIDTH,
+                    isTop() ? bounds.getMinY() + SPACING : bounds.getMaxY() - SPACING);
+            shownCount++;
+            changed = true;
+        }
+
+        if (changed) layoutToasts();
+        if (isAnyToastShowing()) startTimer();
+        else stopTimer();
+    }
+
+    private MToast findFreeToast() {
+        for (int i = 0; i < toasts.length; i++) {
+            if (toasts[i] == null) {
+                MToast toast = new MToast();
+                toast.getPopup().addEventFilter(MouseEvent.MOUSE_CLICKED, x -> {
+                    toast.close();
+                    update(System.nanoTime());
+                });
+                toasts[i] = toast;
+            }
+            if (!toasts[i].getPopup().isShowing()) return toasts[i];
+        }
+        return null;
+    }
+
+    /**
+     * Stacks the visible toasts from the corner, the oldest toast is next to the corner.
+     */
+    private void layoutToasts() {
+        List<MToast> visibleToasts = new ArrayList<>(toasts.length);
+        for (MToast toast : toasts) {
+            if (toast != null && toast.getPopup().isShowing()) visibleToasts.add(toast);
+        }
+        visibleToasts.sort(Comparator.comparingLong(MToast::getShownAt));
+
+        Rectangle2D bounds = getScreenBounds();
+        double offset = SPACING;
+        for (MToast toast : visibleToasts) {
+            double height = toast.getPopup().getHeight();
+            toast.getPopup().setX(isLeft() ? bounds.getMinX() + SPACING : bounds.getMaxX() - SPACING - MToast.WIDTH);
+            toast.getPopup().setY(isTop() ? bounds.getMinY() + offset : bounds.getMaxY() - offset - height);
+            offset += height + SPACING;
+        }
+    }
+
+    /**
+     * @return The visual bounds of the screen which shows the owner window.
+     */
+    private Rectangle2D getScreenBounds() {
+        List<Screen> screens = Screen.getScreensForRectangle(owner.getX(), owner.getY(), owner.getWidth(),
+                owner.getHeight());
+        return (screens.isEmpty() ? Screen.getPrimary() : screens.get(0)).getVisualBounds();
+    }
+
+    private boolean isLeft() {
+        return corner == Corner.TOP_LEFT || corner == Corner.BOTTOM_LEFT;
+    }
+
+    private boolean isTop() {
+        return corner == Corner.TOP_LEFT || corner == Corner.TOP_RIGHT;
+    }
+
+    private boolean isAnyToastShowing() {
+        for (MToast toast : toasts) {
+            if (toast != null && toast.getPopup().isShowing()) return true;
+        }
+        return false;
+    }
+
+    private void startTimer() {
+        if (!timerRunning) {
+            timerRunning = true;
+            timer.start();
+        }
+    }
+
+    private void stopTimer() {
+        if (timerRunning) {
+            timerRunning = false;
+            timer.stop();
+        }
+    }
+
+    /**
+     * The corner of the screen in which the notifications are stacked.
+     *
+     * @since 1.2.0
+     */
+    public enum Corner {
+        TOP_LEFT,
+        TOP_RIGHT,
+        BOTTOM_LEFT,
+        BOTTOM_RIGHT
+    }
+
+    private record Notification(MAlert.MAlertType mAlertType, String headline, String message, long durationNanos) {
+    }
+}
@@ -1,9 +1,15 @@
 package com.gregorgott.mdialogwindows;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
@@ -11,6 +17,11 @@ import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
 import javafx.stage.Window;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * {@code MWelcomeAlert} is an {@link MScrollPaneAlert} based alert which can show e.g. the latest features of an app
  * in widgets. These widgets contain an image, header and a short content text:
@@ -21,12 +32,24 @@ import javafx.stage.Window;
  *     mWelcomeAlert.addWidget(image, "More Languages added", "With this update three new languages are added.");
  * </pre>
  *
+ * <p> For a lot of widgets, the alert can be created in the virtualized mode. Then the widgets are shown in a
+ * {@code ListView}, which only creates nodes for the visible widgets:
+ *
+ * <pre>
+ *     MWelcomeAlert mWelcomeAlert = new MWelcomeAlert("What's New?", mainStage, true);
+ * </pre>
+ *
  * @author GregorGott
  * @version 1.1.0
  * @since 2022-10-16 (YYYY-MM-DD)
  */
 public class MWelcomeAlert extends MScrollPaneAlert {
+    private static final Font WIDGET_HEADLINE_FONT = new Font("Helvetica", 15);
+
+    private final ObservableList<Widget> widgetList;
     private final VBox centerVBox;
+    private final ListView<Widget> widgetListView;
+    private final ObservableList<Node> widgetNodes;
 
     /**
      * Creates a {@code MWelcomeAlert} without title and owner window.
@@ -55,19 +78,66 @@ public class MWelcomeAlert extends MScrollPaneAlert {
      * @since 1.0.0
      */
     public MWelcomeAlert(String title, Window root) {
+        this(title, root, false);
+    }
+
+    /**
+     * Creates a {@code MWelcomeAlert} with a title and owner window. In the virtualized mode the widgets are shown in
+     * a {@code ListView}, which only creates nodes for the visible widgets.
+     *
+     * @param title       The title.
+     * @param root        The window owner.
+     * @param virtualized True to use the virtualized mode.
+     * @since 1.2.0
+     */
+    public MWelcomeAlert(String title, Window root, boolean virtualized) {
         super(title, root);
 
-        centerVBox = new VBox();
-        centerVBox.setSpacing(15);
-        getScrollPane().setContent(centerVBox);
+        widgetList = FXCollections.observableArrayList();
+        if (virtualized) {
+            centerVBox = null;
+            widgetListView = new ListView<>(widgetList);
+            widgetListView.setFocusTraversable(false);
+            widgetListView.setCellFactory(x -> new WidgetCell());
+            widgetNodes = new WidgetNodeList(widgetList);
+            getScrollPane().setFitToHeight(true);
+            getScrollPane().setContent(widgetListView);
+        } else {
+            centerVBox = new VBox();
+            centerVBox.setSpacing(15);
+            widgetListView = null;
+            widgetNodes = FXCollections.unmodifiableObservableList(centerVBox.getChildren());
+            widgetList.addListener(this::updateWidgetNodes);
+            getScrollPane().setContent(centerVBox);
+        }
     }
 
     /**
-     * @return All children of the {@code centerVBox}.
+     * Returns the widget nodes. The returned list is a read-only view of the widget list, so widgets are added and
+     * removed with {@link #getWidgetList()}. In the virtualized mode a node, which is not part of the alert, is created
+     * when it is accessed the first time.
+     *
+     * @return The nodes of all widgets.
      * @since 1.1.0
      */
     public ObservableList<Node> getWidgets() {
-        return centerVBox.getChildren();
+        return widgetNodes;
+    }
+
+    /**
+     * @return The data of all widgets added with {@code addWidget()}.
+     * @since 1.2.0
+     */
+    public ObservableList<Widget> getWidgetList() {
+        return widgetList;
+    }
+
+    /**
+     * @return True if the alert uses the virtualized mode.
+     * @since 1.2.0
+     */
+    public boolean isVirtualized() {
+        return widgetListView != null;
     }
 
     /**
@@ -79,27 +149,235 @@ public class MWelcomeAlert extends MScrollPaneAlert {
      * @since 1.0.0
      */
     public void addWidget(Image image, String headline, String infoText) {
-        Label headlineLabel = new Label(headline);
+        Widget widget = new Widget(image, headline, infoText);
+        widgetList.add(widget);
+    }
+
+    /**
+     * Resets the alert and removes all widgets.
+     *
+     * @since 1.2.0
+     */
+    @Override
+    protected void reset() {
+        super.reset();
+        widgetList.clear();
+        getScrollPane().setContent(centerVBox != null ? centerVBox : widgetListView);
+    }
+
+    /**
+     * Applies a change of the widget list to the children of the {@code centerVBox}, so the shown nodes always match
+     * the widget list in the non-virtualized mode.
+     */
+    private void updateWidgetNodes(ListChangeListener.Change<? extends Widget> c) {
+        ObservableList<Node> children = centerVBox.getChildren();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                List<Node> permutedNodes = new ArrayList<>(children.subList(c.getFrom(), c.getTo()));
+                Node[] nodes = new Node[permutedNodes.size()];
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    nodes[c.getPermutation(i) - c.getFrom()] = permutedNodes.get(i - c.getFrom());
+                }
+                children.remove(c.getFrom(), c.getTo());
+                children.addAll(c.getFrom(), List.of(nodes));
+            } else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) children.set(i, createWidgetNode(c.getList().get(i)));
+            } else {
+                if (c.wasRemoved()) children.remove(c.getFrom(), c.getFrom() + c.getRemovedSize());
+                if (c.wasAdded()) {
+                    List<Node> addedNodes = new ArrayList<>(c.getAddedSize());
+                    for (Widget widget : c.getAddedSubList()) addedNodes.add(createWidgetNode(widget));
+                    children.addAll(c.getFrom(), addedNodes);
+                }
+            }
+        }
+    }
+
+    private static Node createWidgetNode(Widget widget) {
+        Label headlineLabel = new Label(widget.headline());
         headlineLabel.setWrapText(true);
-        headlineLabel.setFont(new Font("Helvetica", 15));
+        headlineLabel.setFont(WIDGET_HEADLINE_FONT);
 
-        Label infoLabel = new Label(infoText);
+        Label infoLabel = new Label(widget.infoText());
         infoLabel.setWrapText(true);
 
         VBox textVBox = new VBox(headlineLabel, infoLabel);
         textVBox.setAlignment(Pos.CENTER_LEFT);
         textVBox.setSpacing(5);
 
-        ImageView imageView = new ImageView(image);
+        ImageView imageView = new ImageView(widget.image());
         imageView.setFitHeight(60);
         imageView.setFitWidth(60);
 
         HBox widgetHBox = new HBox();
         widgetHBox.setSpacing(10);
         widgetHBox.setAlignment(Pos.CENTER_LEFT);
-        if (image != null) widgetHBox.getChildren().add(imageView);
+        if (widget.image() != null) widgetHBox.getChildren().add(imageView);
         widgetHBox.getChildren().add(textVBox);
+        return widgetHBox;
+    }
+
+    /**
+     * The data of a widget.
+     *
+     * @param image    The image (can be null).
+     * @param headline The headline.
+     * @param infoText The info text.
+     * @since 1.2.0
+     */
+    public record Widget(Image image, String headline, String infoText) {
+    }
+
+    /**
+     * A list cell which reuses its nodes for every shown widget.
+     */
+    private static class WidgetCell extends ListCell<Widget> {
+        private final ImageView imageView;
+        private final Label headlineLabel;
+        private final Label infoLabel;
+        private final HBox widgetHBox;
+
+        private WidgetCell() {
+            headlineLabel = new Label();
+            headlineLabel.setWrapText(true);
+            headlineLabel.setFont(WIDGET_HEADLINE_FONT);
+
+            infoLabel = new Label();
+            infoLabel.setWrapText(true);
+
+            VBox textVBox = new VBox(headlineLabel, infoLabel);
+            textVBox.setAlignment(Pos.CENTER_LEFT);
+            textVBox.setSpacing(5);
+
+            imageView = new ImageView();
+            imageView.setFitHeight(60);
+            imageView.setFitWidth(60);
+
+            widgetHBox = new HBox(imageView, textVBox);
+            widgetHBox.setSpacing(10);
+            widgetHBox.setAlignment(Pos.CENTER_LEFT);
+
+            // a zero pref width lets the labels wrap instead of widening the list view
+            setPrefWidth(0);
+            setPadding(new Insets(7.5, 0, 7.5, 0));
+        }
+
+        @Override
+        protected void updateItem(Widget widget, boolean empty) {
+            super.updateItem(widget, empty);
+            setText(null);
+
+            if (empty || widget == null) {
+                imageView.setImage(null);
+                setGraphic(null);
+            } else {
+                imageView.setImage(widget.image());
+                imageView.setVisible(widget.image() != null);
+                imageView.setManaged(widget.image() != null);
+                headlineLabel.setText(widget.headline());
+                infoLabel.setText(widget.infoText());
+                setGraphic(widgetHBox);
+            }
+        }
+    }
+
+    /**
+     * A read-only view of the widget list, which creates the widget nodes on the first access and keeps them.
+     */
+    private static class WidgetNodeList extends TransformationList<Node, Widget> {
+        // the created nodes, null if the node of a widget was not accessed yet
+        private final List<Node> nodes;
+
+        private WidgetNodeList(ObservableList<Widget> source) {
+            super(source);
+            nodes = new ArrayList<>(Collections.nCopies(source.size(), null));
+        }
+
+        @Override
+        protected void sourceChanged(ListChangeListener.Change<? extends Widget> c) {
+            beginChange();
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    int[] permutation = new int[c.getTo() - c.getFrom()];
+                    List<Node> permutedNodes = new ArrayList<>(nodes.subList(c.getFrom(), c.getTo()));
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        permutation[i - c.getFrom()] = c.getPermutation(i);
+                        nodes.set(c.getPermutation(i), permutedNodes.get(i - c.getFrom()));
+                    }
+                    nextPermutation(c.getFrom(), c.getTo(), permutation);
+                } else if (c.wasUpdated()) {
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        nodes.set(i, null);
+                        nextUpdate(i);
+                    }
+                } else {
+                    if (c.wasRemoved()) {
+                        List<Node> removedNodes = nodes.subList(c.getFrom(), c.getFrom() + c.getRemovedSize());
+                        nextRemove(c.getFrom(), new RemovedNodeList(new ArrayList<>(removedNodes),
+                                new ArrayList<>(c.getRemoved())));
+                        removedNodes.clear();
+                    }
+                    if (c.wasAdded()) {
+                        nodes.addAll(c.getFrom(), Collections.nCopies(c.getAddedSize(), null));
+                        nextAdd(c.getFrom(), c.getTo());
+                    }
+                }
+            }
+            endChange();
+        }
+
+        @Override
+        public int getSourceIndex(int index) {
+            return index;
+        }
+
+        @Override
+        public int getViewIndex(int index) {
+            return index;
+        }
+
+        @Override
+        public Node get(int index) {
+            Node node = nodes.get(index);
+            if (node == null) {
+                node = createWidgetNode(getSource().get(index));
+                nodes.set(index, node);
+            }
+            return node;
+        }
+
+        @Override
+        public int size() {
+            return getSource().size();
+        }
+    }
+
+    /**
+     * The removed widget nodes of a change. Nodes which were not accessed before are only created if a listener reads
+     * them.
+     */
+    private static class RemovedNodeList extends AbstractList<Node> {
+        private final List<Node> nodes;
+        private final List<Widget> widgets;
+
+        private RemovedNodeList(List<Node> nodes, List<Widget> widgets) {
+            this.nodes = nodes;
+            this.widgets = widgets;
+        }
+
+        @Override
+        public Node get(int index) {
+            Node node = nodes.get(index);
+            if (node == null) {
+                node = createWidgetNode(widgets.get(index));
+                nodes.set(index, node);
+            }
+            return node;
+        }
 
-        centerVBox.getChildren().add(widgetHBox);
+        @Override
+        public int size() {
+            return widgets.size();
+        }
     }
 }
@@ -1,9 +1,6 @@
 module com.gregorgott.mdialogwindows {
     requires javafx.controls;
-    requires javafx.fxml;
-    requires javafx.web;
+    requires static jdk.jfr;
 
-
-    opens com.gregorgott.mdialogwindows to javafx.fxml;
     exports com.gregorgott.mdialogwindows;
-}
\ No newline at end of file
+}
@@ -0,0 +1,184 @@
+package com.gregorgott.mdialogwindows.web;
+
+import com.gregorgott.mdialogwindows.MDialogWindow;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.web.WebView;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
+
+/**
+ * {@code MWebAlert} shows a {@code WebView} in the center of the alert. The {@code WebView} is accessible via the
+ * {@code getWebView()} method.
+ *
+ * <p> The {@code WebView} is taken from the {@link MWebViewPool} and given back when the alert is closed. If the alert
+ * is shown again, it takes a {@code WebView} from the pool again and reloads its page. Local HTML can be shown without
+ * a URL with {@code loadContent()}:
+ *
+ * <pre>
+ *     MWebAlert webAlert = MWebAlert.ofContent("&lt;h1&gt;Welcome&lt;/h1&gt;", "Welcome", mainStage);
+ *     webAlert.show();
+ * </pre>
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2022-10-16 (YYYY-MM-DD)
+ */
+public class MWebAlert extends MDialogWindow {
+    private WebView webView;
+    private String url;
+    private String content;
+
+    /**
+     * Creates a {@code MWebAlert} with a URL, but without a title and window owner.
+     *
+     * @param url The website/file to be shown in the {@code WebView}.
+     * @since 1.0.0
+     */
+    public MWebAlert(String url) {
+        this(url, null, null);
+    }
+
+    /**
+     * Creates a {@code MWebAlert} with a URL and title, but without a window owner.
+     *
+     * @param url   The website/file to be shown in the {@code WebView}.
+     * @param title The title.
+     * @since 1.0.0
+     */
+    public MWebAlert(String url, String title) {
+        this(url, title, null);
+    }
+
+    /**
+     * Creates a {@code MWebAlert} with a URL, title and window owner.
+     *
+     * @param url   The website/file to be shown in the {@code WebView}.
+     * @param title The title.
+     * @param root  The window owner.
+     */
+    public MWebAlert(String url, String title, Window root) {
+        super(500, 450, title, root);
+
+        setButtonSpacing(10);
+        getStage().addEventHandler(WindowEvent.WINDOW_HIDDEN, x -> releaseWebView());
+        if (url != null) load(url);
+    }
+
+    /**
+     * Creates a {@code MWebAlert} which shows HTML content without loading a URL.
+     *
+     * @param content The HTML content.
+     * @param title   The title.
+     * @param root    The window owner.
+     * @return The {@code MWebAlert}.
+     * @since 1.2.0
+     */
+    public static MWebAlert ofContent(String content, String title, Window root) {
+        MWebAlert webAlert = new MWebAlert(null, title, root);
+        webAlert.loadContent(content);
+        return webAlert;
+    }
+
+    /**
+     * @return The {@code WebView}.
+     * @since 1.0.0
+     */
+    public WebView getWebView() {
+        if (webView == null) {
+            webView = MWebViewPool.acquire();
+            BorderPane.setMargin(webView, new Insets(10, 0, 10, 0));
+            getBorderPane().setCenter(webView);
+        }
+        return webView;
+    }
+
+    /**
+     * Loads a website or file in the {@code WebView}.
+     *
+     * @param url The website/file to be shown in the {@code WebView}.
+     * @since 1.2.0
+     */
+    public void load(String url) {
+        this.url = url;
+        this.content = null;
+        getWebView().getEngine().load(url);
+    }
+
+    /**
+     * Shows HTML content in the {@code WebView}. Unlike {@code load()}, no URL has to be resolved.
+     *
+     * @param content The HTML content.
+     * @since 1.2.0
+     */
+    public void loadContent(String content) {
+        this.content = content;
+        this.url = null;
+        getWebView().getEngine().loadContent(content);
+    }
+
+    /**
+     * Shows the alert. If the {@code WebView} was given back to the pool, a {@code WebView} is taken from the pool and
+     * the page is loaded again.
+     *
+     * @since 1.2.0
+     */
+    @Override
+    public void show() {
+        if (webView == null) {
+            if (content != null) loadContent(content);
+            else if (url != null) load(url);
+            else getWebView();
+        }
+        super.show();
+    }
+
+    /**
+     * The {@code WebView} scrolls its page, so it keeps the height of the alert.
+     *
+     * @param width The width of the center.
+     * @return The minimum height of the center.
+     * @since 1.2.0
+     */
+    @Override
+    protected double computeCenterHeight(double width) {
+        Node center = getBorderPane().getCenter();
+        return center != null ? center.minHeight(width) : 0;
+    }
+
+    /**
+     * Resets the alert and unloads the current page.
+     *
+     * @since 1.2.0
+     */
+    @Override
+    protected void reset() {
+        super.reset();
+        url = null;
+        content = null;
+        if (webView != null) {
+            webView.getEngine().load("about:blank");
+            getBorderPane().setCenter(webView);
+        }
+    }
+
+    /**
+     * Disposes the alert and gives the {@code WebView} back to the pool.
+     *
+     * @since 1.2.0
+     */
+    @Override
+    public void dispose() {
+        super.dispose();
+        releaseWebView();
+    }
+
+    private void releaseWebView() {
+        if (webView == null) return;
+
+        getBorderPane().setCenter(null);
+        MWebViewPool.release(webView);
+        webView = null;
+    }
+}
@@ -0,0 +1,130 @@
+package com.gregorgott.mdialogwindows.web;
+
+import javafx.application.Platform;
+import javafx.scene.layout.Pane;
+import javafx.scene.web.WebHistory;
+import javafx.scene.web.WebView;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+
+/**
+ * The {@code MWebViewPool} keeps {@code WebView}s for the {@link MWebAlert}. Creating the first {@code WebView} starts
+ * WebKit, which takes much longer than creating the rest of an alert. With {@code prewarm()} this is done ahead of
+ * time, e.g. while a splash screen is shown at the application start, instead of when the first alert is opened:
+ *
+ * <pre>
+ *     // in Application.start(), while the splash screen is shown
+ *     MWebViewPool.prewarm(1);
+ * </pre>
+ *
+ * <p> {@code WebView}s can only be created on the JavaFX Application Thread, so the prewarming is deferred work on
+ * this thread, not background work: it blocks the thread for the WebKit initialization.
+ *
+ * <p> An {@code MWebAlert} takes a {@code WebView} from the pool and gives it back when it is closed. The history of a
+ * {@code WebView} can not be cleared, so only {@code WebView}s which have not shown a page are kept, e.g. the ones of
+ * {@code prewarm()}. Cookies and other session state are shared by all {@code WebView}s and are not reset by the pool.
+ * Except {@code prewarm()}, all methods must be called on the JavaFX Application Thread.
+ *
+ * @author GregorGott
+ * @version 1.2.0
+ * @since 2026-10-18 (YYYY-MM-DD)
+ */
+public final class MWebViewPool {
+    private static final String BLANK_PAGE = "about:blank";
+    private static final ArrayDeque<WebView> idleWebViews = new ArrayDeque<>();
+    private static int maxSize = 2;
+
+    private MWebViewPool() {
+    }
+
+    /**
+     * Creates {@code WebView}s for the pool and starts their engines. Can be called from any thread. The
+     * {@code WebView}s are created later on the JavaFX Application Thread, every {@code WebView} in its own
+     * {@code Platform.runLater()} call. The first call initializes WebKit and blocks the JavaFX Application Thread for
+     * this time, so call this method during an idle period, e.g. while a splash screen is shown, and not while the
+     * user interacts with the application.
+     *
+     * @param count The number of {@code WebView}s to create, limited by the maximum size of the pool.
+     * @since 1.2.0
+     */
+    public static void prewarm(int count) {
+        if (count > 0) Platform.runLater(() -> prewarmNext(count));
+    }
+
+    /**
+     * Returns an idle {@code WebView} or creates a new one if the pool is empty.
+     *
+     * @return The {@code WebView}.
+     * @since 1.2.0
+     */
+    public static WebView acquire() {
+        WebView webView = idleWebViews.pollFirst();
+        return webView != null ? webView : new WebView();
+    }
+
+    /**
+     * Gives a {@code WebView} back to the pool. The {@code WebView} is removed from its parent and the current page is
+     * unloaded. If the {@code WebView} has shown a page, its history would be seen by the next alert, so it is dropped
+     * like when the pool is full.
+     *
+     * @param webView The {@code WebView}, which must not be used after this call.
+     * @since 1.2.0
+     */
+    public static void release(WebView webView) {
+        Objects.requireNonNull(webView);
+        if (webView.getParent() instanceof Pane pane) pane.getChildren().remove(webView);
+
+        boolean used = hasShownPage(webView.getEngine().getHistory());
+        webView.getEngine().load(BLANK_PAGE);
+        if (used || idleWebViews.size() >= maxSize || idleWebViews.contains(webView)) return;
+
+        idleWebViews.addFirst(webView);
+    }
+
+    /**
+     * @return The number of idle {@code WebView}s.
+     * @since 1.2.0
+     */
+    public static int getIdleCount() {
+        return idleWebViews.size();
+    }
+
+    /**
+     * @return The maximum number of idle {@code WebView}s.
+     * @since 1.2.0
+     */
+    public static int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum number of idle {@code WebView}s (default: 2).
+     *
+     * @param maxSize The maximum number of idle {@code WebView}s (0 or +).
+     * @since 1.2.0
+     */
+    public static void setMaxSize(int maxSize) {
+        if (maxSize < 0) throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+
+        MWebViewPool.maxSize = maxSize;
+        while (idleWebViews.size() > maxSize) idleWebViews.pollLast();
+    }
+
+    private static boolean hasShownPage(WebHistory history) {
+        for (WebHistory.Entry entry : history.getEntries()) {
+            if (!BLANK_PAGE.equals(entry.getUrl())) return true;
+        }
+        return false;
+    }
+
+    private static void prewarmNext(int remaining) {
+        if (idleWebViews.size() >= maxSize) return;
+
+        WebView webView = new WebView();
+        webView.getEngine().load(BLANK_PAGE);
+        idleWebViews.addLast(webView);
+
+        if (remaining > 1) Platform.runLater(() -> prewarmNext(remaining - 1));
+    }
+}
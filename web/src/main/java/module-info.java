@@ -0,0 +1,6 @@
+module com.gregorgott.mdialogwindows.web {
+    requires transitive com.gregorgott.mdialogwindows;
+    requires transitive javafx.web;
+
+    exports com.gregorgott.mdialogwindows.web;
+}